@@ -0,0 +1,119 @@
+package me.friedwingis.plugin.starforging.benchmarks;
+
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.config.ConfigSnapshot;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+import me.friedwingis.plugin.starforging.storage.PlayerDataStore;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.plugin.MockPlugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Starts and stops the MockBukkit server backing the benchmarks, and builds
+ * the fixtures several benchmarks share.
+ */
+public final class BenchmarkServer {
+
+    private BenchmarkServer() {
+    }
+
+    /**
+     * Starts a fresh mock server and loads the bundled trait catalog. Must be paired with {@link #stop()}.
+     */
+    public static ServerMock start() {
+        if (MockBukkit.isMocked())
+            MockBukkit.unmock();
+        final ServerMock server = MockBukkit.mock();
+
+        // Traits only exist once the catalog is loaded, as they would after onEnable
+        StarboundTrait.loadCatalog(defaultConfig().getConfigurationSection("traits"), Logger.getLogger("StarForging"));
+        return server;
+    }
+
+    /**
+     * Creates a plugin that benchmark listeners can be registered under.
+     */
+    public static MockPlugin plugin() {
+        return MockBukkit.createMockPlugin("StarForging");
+    }
+
+    public static void stop() {
+        if (MockBukkit.isMocked())
+            MockBukkit.unmock();
+    }
+
+    /**
+     * Loads the plugin's bundled config.yml, so benchmarks run against the shipped defaults.
+     */
+    public static YamlConfiguration defaultConfig() {
+        final InputStream stream = BenchmarkServer.class.getClassLoader().getResourceAsStream("config.yml");
+        if (stream == null)
+            throw new IllegalStateException("config.yml is missing from the plugin jar");
+
+        return YamlConfiguration.loadConfiguration(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds a config service holding a snapshot of the bundled config.
+     */
+    public static ConfigService config(final Plugin plugin) {
+        return new ConfigService(plugin, ConfigSnapshot.fromConfig(defaultConfig(), Logger.getLogger("StarForging")));
+    }
+
+    /**
+     * Creates a work scheduler that is never started. Benchmarks drain it themselves with
+     * {@link WorkScheduler#drainAll()}, so queued work runs inside the measured method.
+     */
+    public static WorkScheduler scheduler(final Plugin plugin) {
+        return new WorkScheduler(plugin, 5.0);
+    }
+
+    /**
+     * Creates a player data service writing to a throwaway directory. It is never started,
+     * so benchmarks measure the game logic rather than disk I/O.
+     */
+    public static PlayerDataService playerData(final Plugin plugin, final WorkScheduler scheduler) {
+        try {
+            final Path directory = Files.createTempDirectory("starforging-bench");
+            return new PlayerDataService(plugin, scheduler, new PlayerDataStore(directory, plugin.getLogger()), 100, 10);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Builds a full netherite armor set (feet to head), each piece carrying the given trait.
+     */
+    public static ItemStack[] traitArmor(final StarboundTrait... traits) {
+        final Material[] pieces = {
+                Material.NETHERITE_BOOTS, Material.NETHERITE_LEGGINGS,
+                Material.NETHERITE_CHESTPLATE, Material.NETHERITE_HELMET
+        };
+
+        final ItemStack[] armor = new ItemStack[pieces.length];
+        for (int i = 0; i < pieces.length; i++) {
+            armor[i] = new ItemStack(pieces[i]);
+            traits[i % traits.length].applyToItem(armor[i]);
+        }
+        return armor;
+    }
+}
@@ -0,0 +1,59 @@
+package me.friedwingis.plugin.starforging.benchmarks;
+
+import me.friedwingis.plugin.starforging.utils.Chat;
+import me.friedwingis.plugin.starforging.utils.MessageTemplate;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Message formatting on the drop and proc paths. Chat is pure Adventure, so no server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatBenchmark {
+
+    private static final String PROC_MESSAGE = "<#6A0DAD><b>Void Step</b> - You avoided fall damage.";
+
+    private MessageTemplate dustTemplate;
+    private int amount;
+
+    @Setup
+    public void setup() {
+        this.dustTemplate = Chat.template(Chat.PRAISE + "You discovered.. <amount>x <gradient:#e0e0e0:#ffffff><b>Star Dust", "amount");
+    }
+
+    /**
+     * A constant message, served from the parse cache after the first call.
+     */
+    @Benchmark
+    public Component formatConstant() {
+        return Chat.format(PROC_MESSAGE);
+    }
+
+    /**
+     * A message with a variable, filled into a precompiled template.
+     */
+    @Benchmark
+    public Component renderTemplate() {
+        return dustTemplate.render(++amount & 63);
+    }
+}
@@ -0,0 +1,120 @@
+package me.friedwingis.plugin.starforging.benchmarks;
+
+import me.friedwingis.plugin.starforging.PlayerListeners;
+import me.friedwingis.plugin.starforging.managers.DustDeliveryService;
+import me.friedwingis.plugin.starforging.managers.RandomService;
+import me.friedwingis.plugin.starforging.managers.StardustWallet;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+import me.friedwingis.plugin.starforging.timings.Timings;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.mockbukkit.mockbukkit.plugin.MockPlugin;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The crop-drop path in PlayerListeners#onCropFarm, driven through the plugin manager
+ * exactly as the server would call it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CropDropBenchmark {
+
+    private ServerMock server;
+    private WorkScheduler scheduler;
+    private DustDeliveryService dustDelivery;
+    private PlayerMock player;
+    private Block crop;
+    private Block stone;
+
+    @Setup
+    public void setup() {
+        this.server = BenchmarkServer.start();
+        final MockPlugin plugin = BenchmarkServer.plugin();
+        this.scheduler = BenchmarkServer.scheduler(plugin);
+        final PlayerDataService playerData = BenchmarkServer.playerData(plugin, scheduler);
+        this.dustDelivery = new DustDeliveryService(scheduler, new StardustWallet(false, playerData), playerData, 20);
+        this.server.getPluginManager().registerEvents(new PlayerListeners(BenchmarkServer.config(plugin), dustDelivery, RandomService.unseeded(), new Timings(false, 60)), plugin);
+
+        final WorldMock world = server.addSimpleWorld("world");
+        this.player = server.addPlayer();
+
+        this.crop = world.getBlockAt(0, 64, 0);
+        this.crop.setType(Material.WHEAT);
+        this.stone = world.getBlockAt(1, 64, 0);
+        this.stone.setType(Material.STONE);
+    }
+
+    /**
+     * Delivers the drops queued by the previous iteration and empties the inventory, so
+     * every iteration starts from the same state.
+     */
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        dustDelivery.flushAll();
+        scheduler.drainAll(); // Deliveries are queued on the work scheduler
+        player.getInventory().clear();
+    }
+
+    /**
+     * Delivering one window of batched drops to a player.
+     */
+    @Benchmark
+    public void deliverWindow() {
+        for (int i = 0; i < 8; i++)
+            dustDelivery.queue(player, 1);
+        dustDelivery.flushAll();
+        scheduler.drainAll();
+        player.getInventory().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    /**
+     * Breaking a crop with a drop chance.
+     */
+    @Benchmark
+    public boolean breakCrop() {
+        final BlockBreakEvent event = new BlockBreakEvent(crop, player);
+        server.getPluginManager().callEvent(event);
+        return event.isCancelled();
+    }
+
+    /**
+     * Breaking a block that can never drop Stardust, the most common case on a server.
+     */
+    @Benchmark
+    public boolean breakNonCrop() {
+        final BlockBreakEvent event = new BlockBreakEvent(stone, player);
+        server.getPluginManager().callEvent(event);
+        return event.isCancelled();
+    }
+}
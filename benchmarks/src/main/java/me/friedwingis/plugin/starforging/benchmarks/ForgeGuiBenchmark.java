@@ -0,0 +1,110 @@
+package me.friedwingis.plugin.starforging.benchmarks;
+
+import me.friedwingis.plugin.starforging.PlayerListeners;
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.managers.DustDeliveryService;
+import me.friedwingis.plugin.starforging.managers.RandomService;
+import me.friedwingis.plugin.starforging.managers.StardustWallet;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+import me.friedwingis.plugin.starforging.struct.ForgeGUI;
+import me.friedwingis.plugin.starforging.timings.Timings;
+import org.bukkit.Material;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.mockbukkit.mockbukkit.plugin.MockPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Opening the Celestial Forge and clicking items in and out of its input slot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForgeGuiBenchmark {
+
+    private PlayerMock opener;  // Opens and closes forges
+    private PlayerMock clicker; // Keeps one forge open and clicks in it
+    private PlayerDataService playerData;
+    private StardustWallet wallet;
+    private RandomService random;
+    private ConfigService config;
+    private ForgeGUI gui;
+    private InventoryView view;
+    private ItemStack armor;
+
+    @Setup
+    public void setup() {
+        final ServerMock server = BenchmarkServer.start();
+        final MockPlugin plugin = BenchmarkServer.plugin();
+        final WorkScheduler scheduler = BenchmarkServer.scheduler(plugin);
+        this.playerData = BenchmarkServer.playerData(plugin, scheduler);
+        this.wallet = new StardustWallet(false, playerData);
+        this.random = RandomService.unseeded();
+        this.config = BenchmarkServer.config(plugin);
+        server.getPluginManager().registerEvents(new PlayerListeners(config,
+                new DustDeliveryService(scheduler, wallet, playerData, 20), random, new Timings(false, 60)), plugin);
+
+        this.opener = server.addPlayer();
+        this.clicker = server.addPlayer();
+        this.armor = new ItemStack(Material.DIAMOND_CHESTPLATE);
+
+        this.gui = new ForgeGUI(wallet, playerData, random, config);
+        this.view = clicker.openInventory(gui.getInventory());
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    /**
+     * Opening a fresh forge session and closing it again.
+     */
+    @Benchmark
+    public ForgeGUI openAndClose() {
+        final ForgeGUI opened = new ForgeGUI(wallet, playerData, random, config);
+        opened.open(opener);
+        opener.closeInventory();
+        return opened;
+    }
+
+    /**
+     * Placing an armor piece into the input slot and taking it back out.
+     */
+    @Benchmark
+    public void insertAndRemove() {
+        clicker.setItemOnCursor(armor);
+        gui.handleTopClick(click(InventoryAction.PLACE_ALL));
+        gui.handleTopClick(click(InventoryAction.PICKUP_ALL));
+    }
+
+    private InventoryClickEvent click(final InventoryAction action) {
+        return new InventoryClickEvent(view, InventoryType.SlotType.CONTAINER, 11, ClickType.LEFT, action);
+    }
+}
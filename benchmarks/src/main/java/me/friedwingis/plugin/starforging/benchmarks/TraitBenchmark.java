@@ -0,0 +1,112 @@
+package me.friedwingis.plugin.starforging.benchmarks;
+
+import me.friedwingis.plugin.starforging.managers.EquippedTraitCache;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Trait lookups on equipped armor and trait reads/writes on single items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TraitBenchmark {
+
+    private PlayerMock player;
+    private EquippedTraitCache traitCache;
+    private ItemStack traitItem;
+    private ItemStack legacyTraitItem;
+    private ItemStack plainItem;
+    private StarboundTrait voidStep;
+    private StarboundTrait galacticReinforcement;
+
+    @Setup
+    public void setup() {
+        final ServerMock server = BenchmarkServer.start();
+        final StarboundTrait solarWrath = StarboundTrait.byName("SOLAR_WRATH");
+        this.voidStep = StarboundTrait.byName("VOID_STEP");
+        this.galacticReinforcement = StarboundTrait.byName("GALACTIC_REINFORCEMENT");
+
+        this.player = server.addPlayer();
+        this.player.getInventory().setArmorContents(BenchmarkServer.traitArmor(
+                voidStep, solarWrath, galacticReinforcement));
+
+        this.traitCache = new EquippedTraitCache(BenchmarkServer.scheduler(BenchmarkServer.plugin()));
+        this.traitCache.rebuild(player);
+
+        this.traitItem = BenchmarkServer.traitArmor(solarWrath)[0];
+        this.plainItem = new ItemStack(Material.DIAMOND_CHESTPLATE);
+
+        // An item written in the pre-versioning format, which getTrait still has to read
+        this.legacyTraitItem = plainItem.clone();
+        final ItemMeta meta = legacyTraitItem.getItemMeta();
+        meta.getPersistentDataContainer().set(new NamespacedKey("starforging", "starbound_trait"),
+                PersistentDataType.STRING, solarWrath.name());
+        legacyTraitItem.setItemMeta(meta);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    /**
+     * The check every damage event performs against a full armor set.
+     */
+    @Benchmark
+    public boolean hasTraitFullArmor() {
+        return traitCache.hasTrait(player, galacticReinforcement);
+    }
+
+    /**
+     * Rebuilding the snapshot, paid once per armor change.
+     */
+    @Benchmark
+    public long rebuildFullArmor() {
+        traitCache.rebuild(player);
+        return traitCache.getMask(player);
+    }
+
+    @Benchmark
+    public StarboundTrait getTrait() {
+        return StarboundTrait.getTrait(traitItem);
+    }
+
+    @Benchmark
+    public StarboundTrait getTraitLegacy() {
+        return StarboundTrait.getTrait(legacyTraitItem);
+    }
+
+    @Benchmark
+    public ItemStack applyToItem() {
+        final ItemStack item = plainItem.clone();
+        voidStep.applyToItem(item);
+        return item;
+    }
+}
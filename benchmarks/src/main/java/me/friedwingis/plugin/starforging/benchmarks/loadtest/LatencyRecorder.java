@@ -0,0 +1,56 @@
+package me.friedwingis.plugin.starforging.benchmarks.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Every latency recorded for one kind of event, kept whole so percentiles are exact.
+ * The load test drives everything from one thread, so nothing here is synchronized.
+ */
+final class LatencyRecorder {
+
+    private long[] samples;
+    private int count;
+    private boolean sorted;
+
+    /**
+     * @param expected Roughly how many samples will be recorded, to avoid growing while measuring.
+     */
+    LatencyRecorder(final int expected) {
+        this.samples = new long[Math.max(16, expected)];
+    }
+
+    void record(final long nanos) {
+        if (count == samples.length)
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * Returns the latency that the given share of samples (0.0 - 1.0) is at or below.
+     */
+    long percentile(final double share) {
+        if (count == 0)
+            return 0L;
+
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+
+        final int index = (int) Math.ceil(share * count) - 1;
+        return samples[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    long max() {
+        return percentile(1.0);
+    }
+}
@@ -0,0 +1,343 @@
+package me.friedwingis.plugin.starforging.benchmarks.loadtest;
+
+import me.friedwingis.plugin.starforging.PlayerListeners;
+import me.friedwingis.plugin.starforging.benchmarks.BenchmarkServer;
+import me.friedwingis.plugin.starforging.combat.CombatListener;
+import me.friedwingis.plugin.starforging.combat.CombatServices;
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.managers.CooldownManager;
+import me.friedwingis.plugin.starforging.managers.DustDeliveryService;
+import me.friedwingis.plugin.starforging.managers.EquippedTraitCache;
+import me.friedwingis.plugin.starforging.managers.ProcNotifier;
+import me.friedwingis.plugin.starforging.managers.RandomService;
+import me.friedwingis.plugin.starforging.managers.StardustWallet;
+import me.friedwingis.plugin.starforging.managers.TraitGatedListener;
+import me.friedwingis.plugin.starforging.managers.WorldEnvironmentService;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+import me.friedwingis.plugin.starforging.struct.ForgeGUI;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import me.friedwingis.plugin.starforging.timings.Timings;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.mockbukkit.mockbukkit.plugin.MockPlugin;
+import org.mockbukkit.mockbukkit.world.WorldMock;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Simulates a server full of players using StarForging at once: breaking crops, fighting in
+ * trait armor and clicking through the Celestial Forge, each at a configurable rate per player.
+ * Events are fired through the plugin manager, exactly as the server would, against a MockBukkit
+ * server with the plugin's listeners wired the way StarForging#onEnable wires them.
+ *
+ * Reports the sustained event rate, latency percentiles per kind of event, time spent per tick
+ * against the 50ms budget, and how much was allocated doing it. Everything runs on one thread
+ * and offline, so the numbers only reflect the plugin's own cost, not the rest of a server.
+ *
+ * Run with: java -cp target/benchmarks.jar me.friedwingis.plugin.starforging.benchmarks.loadtest.LoadTest [options]
+ */
+public final class LoadTest {
+
+    private static final int TPS = 20;
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1) / TPS;
+    private static final int DELIVERY_WINDOW_TICKS = 20;
+    private static final int NOTIFY_INTERVAL_TICKS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private enum EventKind {
+        CROP_BREAK("Crop break"),
+        PVP_HIT("PvP hit"),
+        FORGE_CLICK("Forge click"),
+        TICK_TASKS("Tick tasks");
+
+        private final String displayName;
+
+        EventKind(final String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    private final LoadTestOptions options;
+    private final ServerMock server;
+    private final WorkScheduler scheduler;
+    private final DustDeliveryService dustDelivery;
+    private final ProcNotifier notifier;
+    private final WorldEnvironmentService environments = new WorldEnvironmentService();
+    private final PlayerMock[] players;
+    private final PlayerMock[] forgers;
+    private final Block crop;
+    private final ItemStack forgeInput = new ItemStack(Material.DIAMOND_CHESTPLATE);
+
+    private final LatencyRecorder[] latencies = new LatencyRecorder[EventKind.values().length];
+    private final LatencyRecorder tickTimes;
+    private final double[] due = new double[EventKind.values().length]; // Fractional events carried into the next tick
+    private final int[] next = new int[EventKind.values().length];      // Round-robin cursor over the players
+    private long allocatedBytes;
+    private long ticksOverBudget;
+    private long hits;
+    private long clicks;
+
+    private LoadTest(final LoadTestOptions options) {
+        this.options = options;
+        this.server = BenchmarkServer.start();
+        final MockPlugin plugin = BenchmarkServer.plugin();
+        final WorldMock world = server.addSimpleWorld("world");
+
+        // Wired as in StarForging#onEnable. The scheduler is drained by hand below, once per simulated tick.
+        this.scheduler = BenchmarkServer.scheduler(plugin);
+        final PlayerDataService playerData = BenchmarkServer.playerData(plugin, scheduler);
+        final RandomService random = RandomService.seeded(options.seed());
+        final ConfigService config = BenchmarkServer.config(plugin);
+        final Timings timings = new Timings(false, 60);
+        final StardustWallet wallet = new StardustWallet(false, playerData);
+
+        final EquippedTraitCache traitCache = new EquippedTraitCache(scheduler);
+        server.getPluginManager().registerEvents(traitCache, plugin);
+
+        this.dustDelivery = new DustDeliveryService(scheduler, wallet, playerData, DELIVERY_WINDOW_TICKS);
+        server.getPluginManager().registerEvents(dustDelivery, plugin);
+        server.getPluginManager().registerEvents(new PlayerListeners(config, dustDelivery, random, timings), plugin);
+
+        // The cooldown clock isn't started, so Galactic Reinforcement procs once per player and then stays on cooldown
+        final CooldownManager cooldowns = new CooldownManager(playerData, false);
+        this.notifier = new ProcNotifier(scheduler, playerData, ProcNotifier.Mode.ACTION_BAR, NOTIFY_INTERVAL_TICKS);
+        server.getPluginManager().registerEvents(notifier, plugin);
+        final CombatServices services = new CombatServices(random, environments, cooldowns, notifier);
+        traitCache.addMaskListener(new TraitGatedListener(plugin, new CombatListener(traitCache, config, services, timings),
+                config.get().getPipeline().getTraitMask()));
+
+        this.crop = world.getBlockAt(0, 64, 0);
+        this.crop.setType(Material.WHEAT);
+
+        // Everyone wears a full trait set, cycling through the traits so every effect gets exercised
+        final StarboundTrait[] traits = StarboundTrait.values();
+        this.players = new PlayerMock[options.players()];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = server.addPlayer();
+            players[i].getInventory().setArmorContents(BenchmarkServer.traitArmor(traits[i % traits.length], traits[(i + 1) % traits.length]));
+            traitCache.rebuild(players[i]);
+        }
+
+        this.forgers = new PlayerMock[(int) Math.round(players.length * options.forgeShare())];
+        for (int i = 0; i < forgers.length; i++) {
+            forgers[i] = players[i];
+            new ForgeGUI(wallet, playerData, random, config).open(forgers[i]);
+        }
+
+        final int ticks = options.seconds() * TPS;
+        this.tickTimes = new LatencyRecorder(ticks);
+        latencies[EventKind.CROP_BREAK.ordinal()] = new LatencyRecorder(expected(options.cropRate(), players.length, options.seconds()));
+        latencies[EventKind.PVP_HIT.ordinal()] = new LatencyRecorder(expected(options.hitRate(), players.length, options.seconds()));
+        latencies[EventKind.FORGE_CLICK.ordinal()] = new LatencyRecorder(expected(options.clickRate(), forgers.length, options.seconds()));
+        latencies[EventKind.TICK_TASKS.ordinal()] = new LatencyRecorder(ticks);
+    }
+
+    public static void main(final String[] args) {
+        final LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (final IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: LoadTest " + LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf("Simulating %d players (%d with a forge open), %.2f crops, %.2f hits and %.2f clicks per player per second%n",
+                options.players(), Math.round(options.players() * options.forgeShare()), options.cropRate(), options.hitRate(), options.clickRate());
+
+        final LoadTest test = new LoadTest(options);
+        try {
+            test.run();
+        } finally {
+            BenchmarkServer.stop();
+        }
+    }
+
+    private void run() {
+        System.out.printf("Warming up for %ds...%n", options.warmupSeconds());
+        for (int tick = 0; tick < options.warmupSeconds() * TPS; tick++)
+            tick(tick, false);
+
+        System.out.printf("Measuring for %ds%s...%n", options.seconds(), options.paced() ? " at 20 TPS" : ", ticks back to back");
+        final long[] gcBefore = gcTotals();
+        final long start = System.nanoTime();
+
+        long nextTick = start;
+        for (int tick = 0; tick < options.seconds() * TPS; tick++) {
+            tick(tick, true);
+
+            nextTick += TICK_NANOS;
+            if (options.paced()) {
+                final long sleep = nextTick - System.nanoTime();
+                if (sleep > 0L)
+                    LockSupport.parkNanos(sleep);
+            }
+        }
+
+        report(System.nanoTime() - start, gcBefore);
+    }
+
+    /**
+     * Fires one tick's worth of events, then runs the plugin's deferred work.
+     */
+    private void tick(final int tick, final boolean measure) {
+        final long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+
+        fire(EventKind.CROP_BREAK, options.cropRate() * players.length, measure);
+        fire(EventKind.PVP_HIT, options.hitRate() * players.length, measure);
+        fire(EventKind.FORGE_CLICK, options.clickRate() * forgers.length, measure);
+
+        final long tasksStart = System.nanoTime();
+        if (tick % DELIVERY_WINDOW_TICKS == 0)
+            dustDelivery.flushAll();
+        notifier.flushAll();
+        environments.refresh();
+        server.getScheduler().performOneTick();
+        scheduler.drainAll();
+
+        final long end = System.nanoTime();
+        if (measure) {
+            latencies[EventKind.TICK_TASKS.ordinal()].record(end - tasksStart);
+            tickTimes.record(end - start);
+            if (end - start > TICK_NANOS)
+                ticksOverBudget++;
+            allocatedBytes += THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+
+        // Mock players keep every message they're sent, so clear them out once a second, outside the measurement
+        if (tick % TPS == 0) {
+            for (final PlayerMock player : players) {
+                while (player.nextComponentMessage() != null) {
+                    // Discard
+                }
+            }
+        }
+    }
+
+    private void fire(final EventKind kind, final double perSecond, final boolean measure) {
+        final int ordinal = kind.ordinal();
+        due[ordinal] += perSecond / TPS;
+        final int count = (int) due[ordinal];
+        due[ordinal] -= count;
+
+        final PlayerMock[] pool = kind == EventKind.FORGE_CLICK ? forgers : players;
+        if (pool.length == 0)
+            return;
+
+        for (int i = 0; i < count; i++) {
+            final int index = next[ordinal];
+            next[ordinal] = (index + 1) % pool.length;
+
+            final long start = System.nanoTime();
+            switch (kind) {
+                case CROP_BREAK -> breakCrop(pool[index]);
+                case PVP_HIT -> hit(index);
+                case FORGE_CLICK -> click(pool[index]);
+                default -> throw new IllegalStateException("Not an event: " + kind);
+            }
+
+            if (measure)
+                latencies[ordinal].record(System.nanoTime() - start);
+        }
+    }
+
+    private void breakCrop(final PlayerMock player) {
+        server.getPluginManager().callEvent(new BlockBreakEvent(crop, player));
+    }
+
+    /**
+     * Hits the next player along. Victims start at varying health, so some drop low enough
+     * for Galactic Reinforcement.
+     */
+    private void hit(final int attacker) {
+        final PlayerMock victim = players[(attacker + 1) % players.length];
+        victim.setHealth(6.0 + (hits++ % 15));
+        victim.damage(3.0, players[attacker]);
+    }
+
+    /**
+     * Alternates between placing an armor piece into the forge and taking it back out.
+     */
+    private void click(final PlayerMock player) {
+        final boolean place = (clicks++ & 1L) == 0L;
+        if (place)
+            player.setItemOnCursor(forgeInput);
+
+        server.getPluginManager().callEvent(new InventoryClickEvent(player.getOpenInventory(), InventoryType.SlotType.CONTAINER, 11,
+                ClickType.LEFT, place ? InventoryAction.PLACE_ALL : InventoryAction.PICKUP_ALL));
+        player.setItemOnCursor(null);
+    }
+
+    private void report(final long elapsedNanos, final long[] gcBefore) {
+        final double seconds = elapsedNanos / 1_000_000_000.0;
+        long events = 0L;
+        for (final EventKind kind : EventKind.values()) {
+            if (kind != EventKind.TICK_TASKS)
+                events += latencies[kind.ordinal()].count();
+        }
+
+        final long[] gcAfter = gcTotals();
+
+        System.out.println();
+        System.out.printf("Events: %,d in %.1fs, %,.0f events/sec sustained%n", events, seconds, events / seconds);
+        System.out.printf("%-12s %10s %10s %10s %10s %10s%n", "", "count", "p50", "p99", "p99.9", "max");
+        for (final EventKind kind : EventKind.values()) {
+            final LatencyRecorder recorder = latencies[kind.ordinal()];
+            System.out.printf("%-12s %,10d %10s %10s %10s %10s%n", kind.displayName, recorder.count(), formatNanos(recorder.percentile(0.50)),
+                    formatNanos(recorder.percentile(0.99)), formatNanos(recorder.percentile(0.999)), formatNanos(recorder.max()));
+        }
+
+        System.out.println();
+        System.out.printf("Tick time: p50 %s, p99 %s, max %s (budget %s), %,d of %,d ticks over budget%n",
+                formatNanos(tickTimes.percentile(0.50)), formatNanos(tickTimes.percentile(0.99)), formatNanos(tickTimes.max()),
+                formatNanos(TICK_NANOS), ticksOverBudget, tickTimes.count());
+        System.out.printf("Allocated: %,.1f MB/s, %,.0f bytes/event%n",
+                allocatedBytes / seconds / (1024.0 * 1024.0), events == 0L ? 0.0 : (double) allocatedBytes / events);
+        System.out.printf("GC: %,d collections, %,dms paused%n", gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+        System.out.printf("Scheduler: %,d tasks executed, %,d coalesced%n", scheduler.getExecuted(), scheduler.getCoalesced());
+    }
+
+    /**
+     * Returns the collection count and time of every collector, as {count, millis}.
+     */
+    private static long[] gcTotals() {
+        long count = 0L, millis = 0L;
+        for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0L, collector.getCollectionCount());
+            millis += Math.max(0L, collector.getCollectionTime());
+        }
+        return new long[]{count, millis};
+    }
+
+    private static int expected(final double perPlayerPerSecond, final int players, final int seconds) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, Math.ceil(perPlayerPerSecond * players * seconds));
+    }
+
+    /**
+     * Formats a duration as µs below a millisecond and ms above it.
+     */
+    private static String formatNanos(final long nanos) {
+        if (nanos < 1_000_000L)
+            return String.format("%.1fµs", nanos / 1_000.0);
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,67 @@
+package me.friedwingis.plugin.starforging.benchmarks.loadtest;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Settings of a load test run, parsed from {@code --name=value} arguments.
+ *
+ * @param players       Number of simulated players.
+ * @param warmupSeconds Simulated seconds run before anything is measured.
+ * @param seconds       Simulated seconds measured.
+ * @param cropRate      Crops broken per player per second.
+ * @param hitRate       Player-on-player hits per player per second.
+ * @param clickRate     Forge GUI clicks per player per second.
+ * @param forgeShare    Share of players (0.0 - 1.0) with a forge open, the only ones that click.
+ * @param paced         Run ticks at 20 TPS like a server, instead of back to back as fast as possible.
+ * @param seed          Seed for the plugin's rolls, so runs with the same settings roll the same.
+ */
+public record LoadTestOptions(int players, int warmupSeconds, int seconds, double cropRate, double hitRate,
+                              double clickRate, double forgeShare, boolean paced, long seed) {
+
+    public static final String USAGE = "--players=1000 --warmup=10 --seconds=60 --crop-rate=1.0 --hit-rate=1.0 "
+            + "--click-rate=0.5 --forge-share=0.1 --paced=true --seed=0";
+
+    /**
+     * Parses the arguments, using the defaults shown in {@link #USAGE} for any that are missing.
+     *
+     * @throws IllegalArgumentException If an argument is unknown or its value can't be parsed.
+     */
+    public static LoadTestOptions parse(final String[] args) {
+        int players = 1000, warmupSeconds = 10, seconds = 60;
+        double cropRate = 1.0, hitRate = 1.0, clickRate = 0.5, forgeShare = 0.1;
+        boolean paced = true;
+        long seed = 0L;
+
+        for (final String arg : args) {
+            final int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0)
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+
+            final String name = arg.substring(2, split), value = arg.substring(split + 1);
+            try {
+                switch (name) {
+                    case "players" -> players = Integer.parseInt(value);
+                    case "warmup" -> warmupSeconds = Integer.parseInt(value);
+                    case "seconds" -> seconds = Integer.parseInt(value);
+                    case "crop-rate" -> cropRate = Double.parseDouble(value);
+                    case "hit-rate" -> hitRate = Double.parseDouble(value);
+                    case "click-rate" -> clickRate = Double.parseDouble(value);
+                    case "forge-share" -> forgeShare = Double.parseDouble(value);
+                    case "paced" -> paced = Boolean.parseBoolean(value);
+                    case "seed" -> seed = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unknown option --" + name);
+                }
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for --" + name + ": '" + value + "'");
+            }
+        }
+
+        if (players < 2)
+            throw new IllegalArgumentException("At least 2 players are needed, so they have someone to fight.");
+
+        return new LoadTestOptions(players, Math.max(0, warmupSeconds), Math.max(1, seconds), Math.max(0.0, cropRate),
+                Math.max(0.0, hitRate), Math.max(0.0, clickRate), Math.min(1.0, Math.max(0.0, forgeShare)), paced, seed);
+    }
+}
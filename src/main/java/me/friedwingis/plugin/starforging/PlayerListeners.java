@@ -1,47 +1,42 @@
 package me.friedwingis.plugin.starforging;
 
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.drops.DropTables;
+import me.friedwingis.plugin.starforging.managers.DustDeliveryService;
+import me.friedwingis.plugin.starforging.managers.RandomService;
 import me.friedwingis.plugin.starforging.struct.ForgeGUI;
-import me.friedwingis.plugin.starforging.struct.StarboundTrait;
-import me.friedwingis.plugin.starforging.utils.Chat;
-import me.friedwingis.plugin.starforging.utils.Constants;
-import org.bukkit.Location;
-import org.bukkit.World;
-import org.bukkit.attribute.Attribute;
+import me.friedwingis.plugin.starforging.timings.TimedHandler;
+import me.friedwingis.plugin.starforging.timings.Timings;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
-import org.bukkit.enchantments.EnchantmentTarget;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.InventoryView;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.potion.PotionEffect;
-import org.bukkit.potion.PotionEffectType;
-import org.bukkit.util.Vector;
-
-import java.util.Arrays;
-import java.util.Objects;
 
 /**
  * Copyright Fried - 2025
  * All code is private and not to be used by any
  * other entity unless explicitly stated otherwise.
  *
- * Listener class for player interactions, including events like block breaking, inventory actions,
- * and entity damage, all integrated with the Starbound traits system.
+ * Listener class for player interactions, including events like block breaking and inventory actions.
+ * Trait combat logic lives in the {@link me.friedwingis.plugin.starforging.combat.CombatPipeline}.
  */
+@RequiredArgsConstructor
 public class PlayerListeners implements Listener {
 
+    private final ConfigService config;
+    private final DustDeliveryService dustDelivery;
+    private final RandomService random;
+    private final Timings timings;
+
     /**
      * Handles the event when a player breaks a crop.
      * Checks if the block has a chance to drop Stardust based on the crop type.
@@ -50,36 +45,31 @@ public class PlayerListeners implements Listener {
      */
     @EventHandler
     private void onCropFarm(final BlockBreakEvent event) {
-        final Player player = event.getPlayer();
-        final Block block = event.getBlock();
-
-        if (block.getType().isAir())
-            return; // Ignore if the block is air.
-
-        final double dropChance = Constants.CROP_RARITY.getOrDefault(block.getType(), 0.0);
-
-        if (dropChance == 0.0 || Math.random() > dropChance)
-            return; // If no drop chance or the random chance fails, do nothing.
-
-        addDustToPlayer(player); // Add Stardust to the player.
+        final long start = timings.start();
+        final boolean dropped = rollCropDrop(event);
+        timings.record(TimedHandler.CROP_FARM, start, dropped);
     }
 
     /**
-     * Adds Stardust to the player's inventory.
-     * If the inventory is full, notifies the player.
+     * Rolls the block's drop table and queues any Stardust found.
      *
-     * @param player The player to receive Stardust.
+     * @return True if Stardust dropped.
      */
-    private void addDustToPlayer(final Player player) {
-        if (player.getInventory().firstEmpty() == -1) {
-            player.sendMessage(Chat.warn("Unable to collect Stardust! There is no space within your inventory."));
-            return; // Stop if the inventory is full.
-        }
+    private boolean rollCropDrop(final BlockBreakEvent event) {
+        final Block block = event.getBlock();
+        final Material type = block.getType();
+        final DropTables dropTables = config.get().getDrops(); // One snapshot for the whole roll
 
-        final ItemStack dust = Constants.STARDUST.asOne(); // Get Stardust item.
+        if (!dropTables.canDrop(type))
+            return false; // Ignore blocks that never drop Stardust (including air).
 
-        player.getInventory().addItem(dust); // Add the Stardust to the player's inventory.
-        player.sendMessage(Chat.praise("You discovered.. 1x <gradient:#e0e0e0:#ffffff><b>Star Dust"));
+        final Player player = event.getPlayer();
+        final int amount = dropTables.forWorld(block.getWorld()).roll(type, random.nextDouble(player), random.nextDouble(player));
+        if (amount <= 0)
+            return false; // If the roll fails, do nothing.
+
+        dustDelivery.queue(player, amount); // Delivered with the rest of this window's drops.
+        return true;
     }
 
     /**
@@ -90,33 +80,47 @@ public class PlayerListeners implements Listener {
      */
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getWhoClicked() instanceof Player player)) return;
+        final long start = timings.start();
+        final boolean forgeClick = handleInventoryClick(event);
+        timings.record(TimedHandler.INVENTORY_CLICK, start, forgeClick);
+    }
+
+    /**
+     * Routes clicks in the Forge GUI and blocks items from being moved into it.
+     *
+     * @return True if the click was handed to the Forge GUI.
+     */
+    private boolean handleInventoryClick(final InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) return false;
 
         final Inventory clickedInv = event.getClickedInventory();
         final InventoryView view = event.getView();
         final Inventory top = view.getTopInventory();
 
-        if (!(top.getHolder() instanceof ForgeGUI gui)) return;
+        if (!(top.getHolder() instanceof ForgeGUI gui)) return false;
 
         // Cancel all clicks involving the top inventory
         if (event.getRawSlot() < top.getSize()) {
             event.setCancelled(true);
-            if (event.isShiftClick()) return; // prevent shift into GUI
-            gui.handleTopClick(event);
-            return;
+            if (event.isShiftClick()) return false; // prevent shift into GUI
+
+            final long start = timings.start();
+            final boolean forged = gui.handleTopClick(event);
+            timings.record(TimedHandler.FORGE_CLICK, start, forged);
+            return true;
         }
 
         // Prevent shift-clicks from player inventory into the GUI
         if (event.isShiftClick() && clickedInv != null && clickedInv.equals(player.getInventory())) {
             event.setCancelled(true);
-            return;
+            return false;
         }
 
         // Prevent number key swap into GUI
         if (event.getClick() == ClickType.NUMBER_KEY && event.getRawSlot() < top.getSize()) {
             event.setCancelled(true);
-            return;
         }
+        return false;
     }
 
     /**
@@ -131,123 +135,4 @@ public class PlayerListeners implements Listener {
         if (holder instanceof ForgeGUI gui)
             gui.handleClose(event); // Handle Forge GUI close event.
     }
-
-    /**
-     * Handles damage events for players, including fall damage and trait-based effects.
-     *
-     * @param event The EntityDamageEvent triggered when an entity takes damage.
-     */
-    @EventHandler
-    private void onEntityDamage(final EntityDamageEvent event) {
-        final Entity entity = event.getEntity();
-        if (!(entity instanceof Player player))
-            return; // Ignore non-player entities.
-
-        // Handle fall damage if the player has the VOID_STEP trait
-        if (event.getCause() == EntityDamageEvent.DamageCause.FALL && hasTrait(player, StarboundTrait.VOID_STEP)) {
-            if (Math.random() < 0.20) {
-                event.setCancelled(true); // Cancel fall damage.
-                player.sendMessage(Chat.format("<#6A0DAD><b>Void Step</b> - You avoided fall damage."));
-            }
-        }
-
-        // Handle Galactic Reinforcement trait
-        if (hasTrait(player, StarboundTrait.GALACTIC_REINFORCEMENT)) {
-            // Get the player's current and max health
-            final double currentHealth = player.getHealth();
-            final double maxHealth = Objects.requireNonNull(player.getAttribute(Attribute.MAX_HEALTH)).getValue();
-
-            // Check if the player's health is at or below 25% of their maximum
-            if (currentHealth <= maxHealth * 0.25) {
-                // Get the current system time
-                final long now = System.currentTimeMillis();
-
-                // Retrieve the cooldown timestamp from metadata, or default to 0 if not present
-                final long cooldown = player.hasMetadata("trait_cd")
-                        ? player.getMetadata("trait_cd").getFirst().asLong()
-                        : 0L;
-
-                // If the cooldown has expired, apply the trait effect
-                if (now >= cooldown) {
-                    // Give the player the Absorption effect for 3 seconds (60 ticks) at level 2
-                    player.addPotionEffect(new PotionEffect(PotionEffectType.ABSORPTION, 60, 1));
-
-                    // Set a new cooldown (20 seconds from now)
-                    player.setMetadata("trait_cd", new FixedMetadataValue(
-                            JavaPlugin.getPlugin(StarForging.class),
-                            now + 20_000
-                    ));
-
-                    player.sendMessage(Chat.format("<#D8B4F8><b>Galactic Reinforcement</b> - Absorption activated!"));
-                }
-            }
-        }
-    }
-
-    /**
-     * Handles the event when a player damages another entity (player).
-     * Includes checking for Solar Wrath trait effects.
-     *
-     * @param event The EntityDamageByEntityEvent triggered when a player damages another entity.
-     */
-    @EventHandler
-    private void onEntityDamageByPlayer(final EntityDamageByEntityEvent event) {
-        final Entity v = event.getEntity(), d = event.getDamager();
-        if (!(v instanceof Player victim))
-            return;
-        if (!(d instanceof Player damager))
-            return;
-
-        // Handle Void Step trait - Teleport behind attacker when damaged.
-        if (Math.random() < 0.03 && hasTrait(victim, StarboundTrait.VOID_STEP)) {
-            final Location attackerLocation = damager.getLocation();
-            final Vector direction = attackerLocation.getDirection().normalize().multiply(-1);
-            final Location behindAttacker = attackerLocation.add(direction.setY(0)).add(0, 0.5, 0);
-
-            // Check if the block at the teleport location is empty
-            if (behindAttacker.getBlock().getType().isAir()) {
-                victim.teleport(behindAttacker); // Teleport victim behind attacker.
-                victim.sendMessage(Chat.format("<#6A0DAD><b>Void Step</b> - You teleported behind your attacker!"));
-            }
-        }
-
-        // Handle Solar Wrath trait - Increase damage in sunlight and blind at high noon.
-        if (hasTrait(damager, StarboundTrait.SOLAR_WRATH)) {
-            final World world = damager.getWorld();
-            final long time = world.getTime();
-            final boolean isDay = time >= 0 && time < 12300,
-                    isHighNoon = time >= 6000 && time <= 7000,
-                    isClear = world.getEnvironment() == World.Environment.NORMAL && !world.hasStorm();
-
-            if (isDay && isClear) {
-                final double damage = event.getDamage();
-                event.setDamage(damage * 1.15); // Increase damage by 15%.
-
-                if (isHighNoon && Math.random() < 0.25) {
-                    victim.addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 40, 1)); // Apply blindness effect.
-                    victim.sendMessage(Chat.format("<#FFD700><b>Solar Wrath</b> - You are blinded by the sun!"));
-                }
-            }
-        }
-    }
-
-    /**
-     * Checks if a player has a specific StarboundTrait equipped on their armor.
-     *
-     * @param player The player to check.
-     * @param trait  The trait to check for.
-     * @return True if the player has the trait, false otherwise.
-     */
-    private boolean hasTrait(final Player player, final StarboundTrait trait) {
-        return Arrays.stream(player.getInventory().getArmorContents())
-                .filter(Objects::nonNull)
-                .filter(item -> !item.getType().isAir())
-                .filter(EnchantmentTarget.ARMOR::includes)
-                .filter(item -> {
-                    String name = item.getType().name();
-                    return name.contains("DIAMOND") || name.contains("NETHERITE");
-                })
-                .filter(StarboundTrait::containsTrait)
-                .anyMatch(item -> StarboundTrait.getTrait(item) == trait); // Return true if any armor piece has the trait.
-    }
 }
@@ -1,33 +1,199 @@
 package me.friedwingis.plugin.starforging;
 
+import me.friedwingis.plugin.starforging.bulkforge.BulkForgeService;
+import me.friedwingis.plugin.starforging.bulkforge.TraitDistribution;
+import me.friedwingis.plugin.starforging.combat.CombatListener;
+import me.friedwingis.plugin.starforging.combat.CombatServices;
 import me.friedwingis.plugin.starforging.commands.StarDustCommand;
+import me.friedwingis.plugin.starforging.commands.StarForgingCommand;
 import me.friedwingis.plugin.starforging.commands.CelestialForgeCommand;
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.config.ConfigSnapshot;
+import me.friedwingis.plugin.starforging.managers.CooldownManager;
+import me.friedwingis.plugin.starforging.managers.DustDeliveryService;
+import me.friedwingis.plugin.starforging.managers.EquippedTraitCache;
+import me.friedwingis.plugin.starforging.managers.ProcNotifier;
+import me.friedwingis.plugin.starforging.managers.RandomService;
+import me.friedwingis.plugin.starforging.managers.StardustWallet;
+import me.friedwingis.plugin.starforging.managers.TraitGatedListener;
+import me.friedwingis.plugin.starforging.managers.WorldEnvironmentService;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+import me.friedwingis.plugin.starforging.storage.PlayerDataStore;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import me.friedwingis.plugin.starforging.timings.Timings;
+import me.friedwingis.plugin.starforging.utils.Constants;
+import me.friedwingis.plugin.starforging.utils.ItemLore;
 import org.bukkit.plugin.java.JavaPlugin;
 import revxrsal.commands.bukkit.BukkitCommandHandler;
 
+import java.util.Locale;
+
 public final class StarForging extends JavaPlugin {
 
     private BukkitCommandHandler commandHandler; // Handler to manage commands for the plugin
+    private ConfigService config; // Drop tables, forge costs and trait balance, swapped whole on /starforging reload
+    private EquippedTraitCache traitCache; // Snapshot of the traits each online player has equipped
+    private DustDeliveryService dustDelivery; // Batches Stardust drops into one delivery per tick window
+    private StardustWallet wallet; // Virtual Stardust balances, used when wallet mode is enabled
+    private PlayerDataService playerData; // Per-player data, persisted write-behind
+    private CooldownManager cooldowns; // Tick-based trait cooldowns
+    private Timings timings; // Latency and proc counters for our event handlers
+    private BulkForgeService bulkForge; // Admin bulk forges, spread across ticks
+    private WorkScheduler scheduler; // Deferred work, drained within a per-tick time budget
+    private RandomService random; // Rolls for drops, procs and forges
+    private WorldEnvironmentService environments; // Time of day and weather per world, read once per tick
+    private TraitGatedListener combatGate; // Registers the combat listener only while someone wears a trait
+    private ProcNotifier notifier; // Shows trait procs as one rate-limited action bar summary
 
     /**
      * Called when the plugin is enabled. Registers event listeners and commands.
      */
     @Override
     public void onEnable() {
+        // Write the default config on first start
+        saveDefaultConfig();
+
+        // Decide how item lore is stored before any item is built
+        ItemLore.setMode(parseLoreMode(getConfig().getString("items.lore-mode", "full")));
+
+        // The trait catalog fixes trait ids and order for this run, so it's loaded once, before any item or snapshot
+        StarboundTrait.loadCatalog(getConfig().getConfigurationSection("traits"), getLogger());
+        if (StarboundTrait.values().length == 0) {
+            getLogger().severe("No valid traits under 'traits' in config.yml, disabling.");
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
+
+        // Builds the Stardust item, which registers its lore keys for Stardust made in an earlier lore mode
+        Constants.stardust();
+
+        // Balance values are read from an immutable snapshot, so they can be reloaded without a restart
+        this.config = new ConfigService(this, ConfigSnapshot.fromConfig(getConfig(), getLogger()));
+
+        // Measure our own handlers so /starforging timings works without an external profiler
+        this.timings = new Timings(getConfig().getBoolean("timings.enabled", true), getConfig().getInt("timings.window-seconds", 60));
+        this.timings.start(this);
+
+        // Deliveries, migrations and flushes all share one per-tick time budget
+        this.scheduler = new WorkScheduler(this, getConfig().getDouble("scheduler.budget-ms-per-tick", 5.0));
+        this.scheduler.start();
+
+        // Every drop, proc and forge roll comes from here, optionally seeded so rolls can be replayed
+        this.random = getConfig().getBoolean("random.seeded", false)
+                ? RandomService.seeded(getConfig().getLong("random.seed", 0L))
+                : RandomService.unseeded();
+        getServer().getPluginManager().registerEvents(random, this);
+
+        // Load and persist per-player data off the main thread
+        this.playerData = new PlayerDataService(this, scheduler,
+                new PlayerDataStore(getDataFolder().toPath().resolve("playerdata"), getLogger()),
+                getConfig().getInt("storage.flush-interval-ticks", 100),
+                getConfig().getLong("storage.shutdown-timeout-seconds", 10));
+        this.playerData.start();
+        getServer().getPluginManager().registerEvents(playerData, this);
+
+        // Track equipped traits so combat handlers don't have to scan armor on every hit
+        this.traitCache = new EquippedTraitCache(scheduler);
+        getServer().getPluginManager().registerEvents(traitCache, this);
+
         // Register player-related event listeners (such as handling crop farming)
-        getServer().getPluginManager().registerEvents(new PlayerListeners(), this);
+        this.wallet = new StardustWallet(getConfig().getBoolean("wallet.enabled", false), playerData);
+        this.dustDelivery = new DustDeliveryService(scheduler, wallet, playerData, getConfig().getInt("dust.delivery-window-ticks", 20));
+        this.dustDelivery.start();
+        getServer().getPluginManager().registerEvents(dustDelivery, this);
+
+        getServer().getPluginManager().registerEvents(new PlayerListeners(config, dustDelivery, random, timings), this);
+
+        this.cooldowns = new CooldownManager(playerData, getConfig().getBoolean("cooldowns.persist", true));
+        this.cooldowns.start(this);
+        getServer().getPluginManager().registerEvents(cooldowns, this);
+
+        this.environments = new WorldEnvironmentService();
+        this.environments.start(this);
+        getServer().getPluginManager().registerEvents(environments, this);
+
+        // Procs are summed per player and shown in the action bar instead of one chat message each
+        this.notifier = new ProcNotifier(scheduler, playerData,
+                parseNotificationMode(getConfig().getString("notifications.mode", "action-bar")),
+                getConfig().getInt("notifications.min-interval-ticks", 10));
+        this.notifier.start();
+        getServer().getPluginManager().registerEvents(notifier, this);
+
+        // Trait effects are compiled into each config snapshot's pipeline, and reach these services through the hit
+        final CombatServices services = new CombatServices(random, environments, cooldowns, notifier);
+
+        // Damage events only reach us while someone online wears a trait. The gate covers the whole
+        // catalog rather than the traits with effects right now, since a reload can give any trait effects.
+        final int traits = StarboundTrait.values().length;
+        final long catalogMask = traits == Long.SIZE ? -1L : (1L << traits) - 1;
+        this.combatGate = new TraitGatedListener(this, new CombatListener(traitCache, config, services, timings), catalogMask);
+        this.traitCache.addMaskListener(combatGate);
+
+        // Snapshot everyone already online (e.g. after a reload), which also opens the gate if needed
+        this.traitCache.rebuildAll();
+
+        // Admin bulk forging over containers, limited to a few milliseconds of work per tick
+        this.bulkForge = new BulkForgeService(this,
+                getConfig().getDouble("bulk-forge.budget-ms-per-tick", 2.0),
+                getConfig().getInt("bulk-forge.progress-interval-seconds", 5),
+                getConfig().getLong("bulk-forge.max-chunks", 10000),
+                TraitDistribution.fromConfig(getConfig().getConfigurationSection("bulk-forge.distribution"), config.get().getForgeOdds(), getLogger()),
+                random);
 
         // Initialize the command handler and register our custom commands
         this.commandHandler = BukkitCommandHandler.create(this);
-        this.commandHandler.register(new CelestialForgeCommand()); // Register the "starforge" command
-        this.commandHandler.register(new StarDustCommand()); // Register the "stardust" command
+        this.commandHandler.register(new CelestialForgeCommand(wallet, playerData, random, config, notifier)); // Register the "starforge" command
+        this.commandHandler.register(new StarDustCommand(this, wallet)); // Register the "stardust" command
+        this.commandHandler.register(new StarForgingCommand(timings, bulkForge, scheduler, config)); // Register the "starforging" admin command
     }
 
     /**
-     * Called when the plugin is disabled. This is where any cleanup logic would go.
+     * Called when the plugin is disabled. Delivers pending Stardust and flushes player data to disk.
      */
     @Override
     public void onDisable() {
-        // Placeholder for disabling actions if needed (e.g., saving data or stopping tasks).
+        if (bulkForge != null)
+            bulkForge.cancelAll();
+        if (timings != null)
+            timings.shutdown();
+        if (cooldowns != null)
+            cooldowns.shutdown();
+        if (environments != null)
+            environments.shutdown();
+        if (combatGate != null)
+            combatGate.shutdown();
+
+        // Run whatever is still queued, so no delivery or flush is lost
+        if (scheduler != null)
+            scheduler.shutdown();
+
+        // Hand out any Stardust still waiting for the next delivery window
+        if (dustDelivery != null)
+            dustDelivery.shutdown();
+
+        // Write everything still pending, waiting no longer than the configured timeout
+        if (playerData != null)
+            playerData.shutdown();
+
+        ItemLore.shutdown();
+    }
+
+    private ItemLore.Mode parseLoreMode(final String value) {
+        try {
+            return ItemLore.Mode.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            getLogger().warning("Unknown items.lore-mode '" + value + "', using full.");
+            return ItemLore.Mode.FULL;
+        }
+    }
+
+    private ProcNotifier.Mode parseNotificationMode(final String value) {
+        try {
+            return ProcNotifier.Mode.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (final IllegalArgumentException e) {
+            getLogger().warning("Unknown notifications.mode '" + value + "', using action-bar.");
+            return ProcNotifier.Mode.ACTION_BAR;
+        }
     }
 }
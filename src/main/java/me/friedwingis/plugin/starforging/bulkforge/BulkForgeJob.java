@@ -0,0 +1,215 @@
+package me.friedwingis.plugin.starforging.bulkforge;
+
+import lombok.Getter;
+import me.friedwingis.plugin.starforging.struct.ForgeGUI;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import me.friedwingis.plugin.starforging.utils.Chat;
+import me.friedwingis.plugin.starforging.utils.MessageTemplate;
+import net.kyori.adventure.text.Component;
+import org.bukkit.block.ShulkerBox;
+import org.bukkit.command.CommandSender;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * A bulk forge in progress. Work happens in slices: each slice forges items until the
+ * per-tick budget runs out, then schedules the next one a tick later on whichever thread
+ * owns the next piece of work. Every piece of armor that could be forged in the
+ * Celestial Forge gets a trait rolled from the job's distribution.
+ */
+public abstract class BulkForgeJob {
+
+    private static final MessageTemplate PROGRESS = Chat.template(
+            "<gray>Bulk forge <white>#<id></white>: <white><done>/<total></white> <unit> (<percent>%), <white><forged></white> items forged",
+            "id", "done", "total", "unit", "percent", "forged");
+    private static final MessageTemplate FINISHED = Chat.template(
+            Chat.PRAISE + "Bulk forge #<id> finished: <forged> items forged in <seconds>s (<breakdown>).",
+            "id", "forged", "seconds", "breakdown");
+    private static final MessageTemplate CANCELLED = Chat.template(
+            Chat.WARN + "Bulk forge #<id> stopped: <reason> (<forged> items forged).", "id", "reason", "forged");
+
+    @Getter private final int id;
+    protected final BulkForgeService service;
+    private final CommandSender requester;
+    private final TraitDistribution distribution;
+
+    private final long startedAt = System.nanoTime();
+    private long lastReport = startedAt;
+    private final int[] forgedByTrait = new int[StarboundTrait.values().length];
+    @Getter private volatile long forged;
+    private volatile boolean cancelled;
+
+    // Cursor into the inventory currently being worked through
+    private Inventory inventory;
+    private int slot;
+
+    protected BulkForgeJob(final int id, final BulkForgeService service, final CommandSender requester, final TraitDistribution distribution) {
+        this.id = id;
+        this.service = service;
+        this.requester = requester;
+        this.distribution = distribution;
+    }
+
+    /**
+     * Forges until the deadline passes or the job runs out of work.
+     *
+     * @return True once every item has been visited.
+     */
+    protected abstract boolean step(long deadline);
+
+    /**
+     * Schedules the next slice on the thread that owns the job's next piece of work.
+     */
+    protected abstract void scheduleNext();
+
+    /**
+     * Work done so far and in total, in {@link #unit()}s.
+     */
+    public abstract long done();
+
+    public abstract long total();
+
+    public abstract String unit();
+
+    /**
+     * Schedules the job's first slice.
+     */
+    final void start() {
+        scheduleNext();
+    }
+
+    /**
+     * Runs one slice of the job.
+     */
+    protected final void runSlice() {
+        if (cancelled)
+            return;
+
+        final long now = System.nanoTime();
+        final boolean finished = step(now + service.getBudgetNanos());
+
+        if (finished) {
+            finish();
+            return;
+        }
+
+        if (System.nanoTime() - lastReport >= service.getProgressIntervalNanos()) {
+            lastReport = System.nanoTime();
+            requester.sendMessage(renderProgress());
+        }
+        scheduleNext();
+    }
+
+    /**
+     * Stops the job after the slice currently running, if any.
+     */
+    public void cancel(final String reason) {
+        if (cancelled)
+            return;
+
+        cancelled = true;
+        service.remove(this);
+        requester.sendMessage(CANCELLED.render(id, reason, forged));
+    }
+
+    /**
+     * Renders the job's current progress.
+     */
+    public Component renderProgress() {
+        final long total = Math.max(1L, total());
+        return PROGRESS.render(id, done(), total(), unit(), done() * 100 / total, forged);
+    }
+
+    /**
+     * Starts working through an inventory, continuing with {@link #forgeSlots(long)}.
+     */
+    protected final void beginInventory(final Inventory inventory) {
+        this.inventory = inventory;
+        this.slot = 0;
+    }
+
+    /**
+     * Forges the remaining slots of the current inventory until the deadline.
+     *
+     * @return True if the inventory is done, false if the deadline passed first.
+     */
+    protected final boolean forgeSlots(final long deadline) {
+        if (inventory == null)
+            return true;
+
+        final int size = inventory.getSize();
+        while (slot < size) {
+            if (System.nanoTime() >= deadline)
+                return false;
+
+            final ItemStack item = inventory.getItem(slot);
+            if (forgeItem(item))
+                inventory.setItem(slot, item);
+            slot++;
+        }
+
+        inventory = null;
+        return true;
+    }
+
+    /**
+     * Applies a trait to the item if it can take one, looking inside shulker boxes.
+     *
+     * @return True if the item was changed.
+     */
+    private boolean forgeItem(final ItemStack item) {
+        if (item == null || item.getType().isAir())
+            return false;
+
+        if (ForgeGUI.isValidArmorPiece(item.getType())) {
+            if (StarboundTrait.containsTrait(item))
+                return false;
+
+            final StarboundTrait trait = distribution.roll(service.getRandom().nextDouble());
+            trait.applyToItem(item);
+            forgedByTrait[trait.ordinal()]++;
+            forged++;
+            return true;
+        }
+
+        if (!(item.getItemMeta() instanceof BlockStateMeta meta) || !(meta.getBlockState() instanceof ShulkerBox box))
+            return false;
+
+        final ItemStack[] contents = box.getInventory().getContents();
+        boolean changed = false;
+        for (final ItemStack nested : contents) {
+            // Shulker boxes can't hold other shulker boxes, so this never recurses further
+            changed |= forgeItem(nested);
+        }
+        if (!changed)
+            return false;
+
+        box.getInventory().setContents(contents);
+        meta.setBlockState(box);
+        item.setItemMeta(meta);
+        return true;
+    }
+
+    private void finish() {
+        service.remove(this);
+
+        final StarboundTrait[] traits = StarboundTrait.values();
+        final StringBuilder breakdown = new StringBuilder();
+        for (int i = 0; i < traits.length; i++) {
+            if (forgedByTrait[i] == 0)
+                continue;
+            if (!breakdown.isEmpty())
+                breakdown.append(", ");
+            breakdown.append(forgedByTrait[i]).append("x ").append(traits[i].name());
+        }
+
+        final long seconds = (System.nanoTime() - startedAt) / 1_000_000_000L;
+        requester.sendMessage(FINISHED.render(id, forged, seconds, breakdown.isEmpty() ? "nothing to forge" : breakdown.toString()));
+    }
+}
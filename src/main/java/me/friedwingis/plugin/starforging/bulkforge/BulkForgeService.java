@@ -0,0 +1,106 @@
+package me.friedwingis.plugin.starforging.bulkforge;
+
+import lombok.Getter;
+import me.friedwingis.plugin.starforging.managers.RandomService;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Starts and tracks bulk forge jobs. Every job gets the same per-tick time budget,
+ * so even a job over tens of thousands of items only ever costs a few milliseconds a tick.
+ */
+public class BulkForgeService {
+
+    @Getter private final Plugin plugin;
+    @Getter private final long budgetNanos;
+    @Getter private final long progressIntervalNanos;
+    @Getter private final long maxChunks;
+    @Getter private final TraitDistribution defaultDistribution;
+    @Getter private final RandomService random;
+
+    private final Map<Integer, BulkForgeJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    /**
+     * @param plugin                  The plugin that owns the job tasks.
+     * @param budgetMillis            How long a job may work per tick.
+     * @param progressIntervalSeconds How often jobs report progress to whoever started them.
+     * @param maxChunks               The largest region a single job may cover.
+     * @param defaultDistribution     The trait odds used when a job doesn't specify its own.
+     * @param random                  Rolls the trait each forged item gets.
+     */
+    public BulkForgeService(final Plugin plugin, final double budgetMillis, final int progressIntervalSeconds,
+                            final long maxChunks, final TraitDistribution defaultDistribution, final RandomService random) {
+        this.plugin = plugin;
+        this.budgetNanos = (long) (Math.max(0.1, budgetMillis) * 1_000_000L);
+        this.progressIntervalNanos = TimeUnit.SECONDS.toNanos(Math.max(1, progressIntervalSeconds));
+        this.maxChunks = Math.max(1L, maxChunks);
+        this.defaultDistribution = defaultDistribution;
+        this.random = random;
+    }
+
+    /**
+     * Starts forging every container in an x/z box.
+     *
+     * @return The started job.
+     * @throws IllegalArgumentException If the box covers more than the configured number of chunks.
+     */
+    public BulkForgeJob forgeRegion(final CommandSender requester, final World world, final int x1, final int z1,
+                                    final int x2, final int z2, final TraitDistribution distribution) {
+        final long chunks = RegionForgeJob.chunksIn(x1, z1, x2, z2);
+        if (chunks > maxChunks)
+            throw new IllegalArgumentException("That area covers " + chunks + " chunks, the limit is " + maxChunks + ".");
+
+        return start(new RegionForgeJob(nextId.getAndIncrement(), this, requester, distribution, world, x1, z1, x2, z2));
+    }
+
+    /**
+     * Starts forging an online player's ender chest.
+     *
+     * @return The started job.
+     */
+    public BulkForgeJob forgeEnderChest(final CommandSender requester, final Player target, final TraitDistribution distribution) {
+        return start(new EnderChestForgeJob(nextId.getAndIncrement(), this, requester, distribution, target));
+    }
+
+    /**
+     * Returns the job with the given id, or null if it has finished or never existed.
+     */
+    public BulkForgeJob getJob(final int id) {
+        return jobs.get(id);
+    }
+
+    public Collection<BulkForgeJob> getJobs() {
+        return jobs.values();
+    }
+
+    /**
+     * Cancels every running job, used on shutdown.
+     */
+    public void cancelAll() {
+        for (final BulkForgeJob job : jobs.values())
+            job.cancel("the server is stopping");
+    }
+
+    void remove(final BulkForgeJob job) {
+        jobs.remove(job.getId());
+    }
+
+    private BulkForgeJob start(final BulkForgeJob job) {
+        jobs.put(job.getId(), job);
+        job.start();
+        return job;
+    }
+}
@@ -0,0 +1,58 @@
+package me.friedwingis.plugin.starforging.bulkforge;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Bulk forges an online player's ender chest, including any shulker boxes stored in it.
+ * Runs on the player's own scheduler, and stops if they log out.
+ */
+public class EnderChestForgeJob extends BulkForgeJob {
+
+    private final Player target;
+    private boolean started;
+    private boolean done;
+
+    EnderChestForgeJob(final int id, final BulkForgeService service, final CommandSender requester,
+                       final TraitDistribution distribution, final Player target) {
+        super(id, service, requester, distribution);
+        this.target = target;
+    }
+
+    @Override
+    protected boolean step(final long deadline) {
+        if (!started) {
+            started = true;
+            beginInventory(target.getEnderChest());
+        }
+
+        done = forgeSlots(deadline);
+        return done;
+    }
+
+    @Override
+    protected void scheduleNext() {
+        final String reason = target.getName() + " logged out";
+        if (target.getScheduler().runDelayed(service.getPlugin(), task -> runSlice(), () -> cancel(reason), 1L) == null)
+            cancel(reason);
+    }
+
+    @Override
+    public long done() {
+        return done ? 1L : 0L;
+    }
+
+    @Override
+    public long total() {
+        return 1L;
+    }
+
+    @Override
+    public String unit() {
+        return "ender chests";
+    }
+}
@@ -0,0 +1,159 @@
+package me.friedwingis.plugin.starforging.bulkforge;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Chest;
+import org.bukkit.block.Container;
+import org.bukkit.command.CommandSender;
+import org.bukkit.inventory.Inventory;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Bulk forges every container (chests, barrels, shulker boxes, ...) in an x/z box, top to bottom.
+ * Chunks are visited in order, each on the region thread that owns it. Unloaded chunks
+ * are loaded asynchronously first, so a job never stalls a tick waiting on disk.
+ */
+public class RegionForgeJob extends BulkForgeJob {
+
+    private final World world;
+    private final int minX, minZ, maxX, maxZ; // Block bounds, inclusive
+    private final int minChunkX, minChunkZ, chunksWide;
+    private final int totalChunks;
+
+    private int chunkIndex;
+    private Inventory[] inventories; // Container inventories of the current chunk, null until it's been read
+    private int inventoryIndex;
+
+    RegionForgeJob(final int id, final BulkForgeService service, final CommandSender requester, final TraitDistribution distribution,
+                   final World world, final int x1, final int z1, final int x2, final int z2) {
+        super(id, service, requester, distribution);
+        this.world = world;
+        this.minX = Math.min(x1, x2);
+        this.maxX = Math.max(x1, x2);
+        this.minZ = Math.min(z1, z2);
+        this.maxZ = Math.max(z1, z2);
+
+        this.minChunkX = minX >> 4;
+        this.minChunkZ = minZ >> 4;
+        this.chunksWide = (maxX >> 4) - minChunkX + 1;
+        this.totalChunks = chunksWide * ((maxZ >> 4) - minChunkZ + 1);
+    }
+
+    /**
+     * Returns the number of chunks a box covers, so oversized jobs can be refused up front.
+     */
+    static long chunksIn(final int x1, final int z1, final int x2, final int z2) {
+        final long wide = (Math.max(x1, x2) >> 4) - (Math.min(x1, x2) >> 4) + 1L;
+        final long deep = (Math.max(z1, z2) >> 4) - (Math.min(z1, z2) >> 4) + 1L;
+        return wide * deep;
+    }
+
+    @Override
+    protected boolean step(final long deadline) {
+        while (true) {
+            if (inventories == null) {
+                if (chunkIndex >= totalChunks)
+                    return true;
+
+                // Stop here if the next chunk belongs to another region or still has to load
+                final int chunkX = chunkX(), chunkZ = chunkZ();
+                if (!Bukkit.isOwnedByCurrentRegion(world, chunkX, chunkZ) || !world.isChunkLoaded(chunkX, chunkZ))
+                    return false;
+
+                inventories = readInventories(chunkX, chunkZ);
+                inventoryIndex = 0;
+            }
+
+            while (inventoryIndex < inventories.length) {
+                if (!forgeSlots(deadline))
+                    return false;
+
+                if (System.nanoTime() >= deadline)
+                    return false;
+                beginInventory(inventories[inventoryIndex++]);
+            }
+
+            // Finish the last inventory before moving on
+            if (!forgeSlots(deadline))
+                return false;
+
+            inventories = null;
+            chunkIndex++;
+        }
+    }
+
+    @Override
+    protected void scheduleNext() {
+        if (chunkIndex >= totalChunks)
+            return;
+
+        final int chunkX = chunkX(), chunkZ = chunkZ();
+        if (inventories == null && !world.isChunkLoaded(chunkX, chunkZ)) {
+            world.getChunkAtAsync(chunkX, chunkZ).whenComplete((chunk, error) -> {
+                // Without a slice scheduled the job would never finish, so a failed load ends it
+                if (error != null || chunk == null) {
+                    service.getPlugin().getLogger().log(Level.WARNING, "Bulk forge #" + getId() + " could not load chunk " + chunkX + ", " + chunkZ, error);
+                    cancel("chunk " + chunkX + ", " + chunkZ + " failed to load" + (error != null ? ": " + error.getMessage() : ""));
+                    return;
+                }
+                Bukkit.getRegionScheduler().run(service.getPlugin(), world, chunkX, chunkZ, task -> runSlice());
+            });
+            return;
+        }
+
+        Bukkit.getRegionScheduler().runDelayed(service.getPlugin(), world, chunkX, chunkZ, task -> runSlice(), 1L);
+    }
+
+    @Override
+    public long done() {
+        return chunkIndex;
+    }
+
+    @Override
+    public long total() {
+        return totalChunks;
+    }
+
+    @Override
+    public String unit() {
+        return "chunks";
+    }
+
+    private int chunkX() {
+        return minChunkX + chunkIndex % chunksWide;
+    }
+
+    private int chunkZ() {
+        return minChunkZ + chunkIndex / chunksWide;
+    }
+
+    /**
+     * Returns the inventories of the containers in a chunk that lie inside the job's bounds.
+     */
+    private Inventory[] readInventories(final int chunkX, final int chunkZ) {
+        // Live block states, so their inventories are the real ones rather than copies
+        final BlockState[] states = world.getChunkAt(chunkX, chunkZ).getTileEntities(false);
+
+        int count = 0;
+        final Inventory[] found = new Inventory[states.length];
+        for (final BlockState state : states) {
+            if (!(state instanceof Container container) || !inBounds(state.getX(), state.getZ()))
+                continue;
+
+            // Each half of a double chest is visited on its own, so only take this half
+            found[count++] = state instanceof Chest chest ? chest.getBlockInventory() : container.getInventory();
+        }
+        return count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    private boolean inBounds(final int x, final int z) {
+        return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+    }
+}
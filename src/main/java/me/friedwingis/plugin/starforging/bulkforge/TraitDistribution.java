@@ -0,0 +1,121 @@
+package me.friedwingis.plugin.starforging.bulkforge;
+
+import me.friedwingis.plugin.starforging.struct.AliasTable;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.logging.Logger;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Relative weights for the traits a forge hands out, e.g. {@code VOID_STEP:25,SOLAR_WRATH:75}.
+ * Weights are indexed by trait ordinal and turned into an {@link AliasTable}, so a roll costs the
+ * same whether the catalog has three traits or sixty-four.
+ */
+public final class TraitDistribution {
+
+    private final StarboundTrait[] traits;
+    private final double[] weights;
+    private final AliasTable table;
+
+    /**
+     * @param weights Relative weight per trait ordinal, covering the whole catalog.
+     * @throws IllegalArgumentException If no trait has a weight above 0.
+     */
+    public TraitDistribution(final double[] weights) {
+        this.traits = StarboundTrait.values();
+        if (weights.length != traits.length)
+            throw new IllegalArgumentException("Expected " + traits.length + " weights, got " + weights.length + ".");
+
+        this.weights = weights.clone();
+        this.table = new AliasTable(this.weights);
+    }
+
+    /**
+     * Picks a trait.
+     *
+     * @param roll A uniform random value in [0, 1).
+     */
+    public StarboundTrait roll(final double roll) {
+        return traits[table.roll(roll)];
+    }
+
+    /**
+     * Formats the distribution as percentages, in the same form {@link #parse(String)} accepts.
+     */
+    public String describe() {
+        double total = 0;
+        for (final double weight : weights)
+            total += weight;
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] <= 0)
+                continue;
+            if (!builder.isEmpty())
+                builder.append(',');
+            builder.append(traits[i].name()).append(':').append(Math.round(weights[i] / total * 1000) / 10.0);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Parses a distribution such as {@code VOID_STEP:25,SOLAR_WRATH:75}. Traits that aren't listed never roll.
+     *
+     * @throws IllegalArgumentException If an entry is malformed or names an unknown trait.
+     */
+    public static TraitDistribution parse(final String input) {
+        final double[] weights = new double[StarboundTrait.values().length];
+
+        for (final String entry : input.split(",")) {
+            final int separator = entry.indexOf(':');
+            if (separator < 0)
+                throw new IllegalArgumentException("Expected TRAIT:weight, got '" + entry.trim() + "'.");
+
+            final StarboundTrait trait = traitNamed(entry.substring(0, separator).trim());
+            final double weight;
+            try {
+                weight = Double.parseDouble(entry.substring(separator + 1).trim());
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in '" + entry.trim() + "'.");
+            }
+            if (weight < 0)
+                throw new IllegalArgumentException("Weights can't be negative ('" + entry.trim() + "').");
+
+            weights[trait.ordinal()] = weight;
+        }
+        return new TraitDistribution(weights);
+    }
+
+    /**
+     * Reads a distribution from a section mapping trait names to weights.
+     *
+     * @param section  The config section, may be null.
+     * @param fallback Used when the section is missing or invalid.
+     * @param logger   Logger for an invalid section.
+     */
+    public static TraitDistribution fromConfig(final ConfigurationSection section, final TraitDistribution fallback, final Logger logger) {
+        if (section == null)
+            return fallback;
+
+        final double[] weights = new double[StarboundTrait.values().length];
+        try {
+            for (final String key : section.getKeys(false))
+                weights[traitNamed(key).ordinal()] = Math.max(0, section.getDouble(key));
+            return new TraitDistribution(weights);
+        } catch (final IllegalArgumentException e) {
+            logger.warning("Invalid trait distribution at " + section.getCurrentPath() + " (" + e.getMessage() + "), using the default.");
+            return fallback;
+        }
+    }
+
+    private static StarboundTrait traitNamed(final String name) {
+        final StarboundTrait trait = StarboundTrait.byName(name);
+        if (trait == null)
+            throw new IllegalArgumentException("Unknown trait '" + name + "'.");
+        return trait;
+    }
+}
@@ -0,0 +1,91 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import lombok.Getter;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The state of a single hit as it passes through the {@link CombatPipeline}.
+ * Player state that several handlers need is read once and cached here.
+ */
+public class CombatContext {
+
+    @Getter private final EntityDamageEvent event;
+    @Getter private final Player victim;
+    @Getter private final Player attacker; // Null unless the hit is player-on-player
+    @Getter private final long victimMask;
+    @Getter private final long attackerMask;
+    @Getter private final CombatServices services;
+
+    @Getter private int procs; // Number of trait effects that triggered on this hit
+    private double maxHealth = -1;
+
+    public CombatContext(final EntityDamageEvent event, final Player victim, final Player attacker,
+                         final long victimMask, final long attackerMask, final CombatServices services) {
+        this.event = event;
+        this.victim = victim;
+        this.attacker = attacker;
+        this.victimMask = victimMask;
+        this.attackerMask = attackerMask;
+        this.services = services;
+    }
+
+    /**
+     * Returns the player on the given side of the hit, i.e. the one wearing the trait for an
+     * effect with that role.
+     */
+    public Player getPlayer(final CombatRole role) {
+        return role == CombatRole.VICTIM ? victim : attacker;
+    }
+
+    /**
+     * Returns true if this hit was dealt by another player.
+     */
+    public boolean isPvp() {
+        return attacker != null;
+    }
+
+    public EntityDamageEvent.DamageCause getCause() {
+        return event.getCause();
+    }
+
+    public double getDamage() {
+        return event.getDamage();
+    }
+
+    public void setDamage(final double damage) {
+        event.setDamage(damage);
+    }
+
+    public boolean isCancelled() {
+        return event.isCancelled();
+    }
+
+    public void cancel() {
+        event.setCancelled(true);
+    }
+
+    /**
+     * Marks that a trait effect triggered on this hit.
+     */
+    public void proc() {
+        procs++;
+    }
+
+    /**
+     * Returns the victim's max health, reading the attribute only once per hit.
+     */
+    public double getVictimMaxHealth() {
+        if (maxHealth < 0) {
+            final AttributeInstance attribute = victim.getAttribute(Attribute.MAX_HEALTH);
+            maxHealth = attribute != null ? attribute.getValue() : 20.0;
+        }
+        return maxHealth;
+    }
+}
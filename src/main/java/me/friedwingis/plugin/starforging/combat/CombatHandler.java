@@ -0,0 +1,19 @@
+package me.friedwingis.plugin.starforging.combat;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * A single piece of trait logic bound to a stage of the {@link CombatPipeline}.
+ */
+@FunctionalInterface
+public interface CombatHandler {
+
+    /**
+     * Applies this handler to the current hit.
+     *
+     * @param context The state of the hit being processed.
+     */
+    void handle(CombatContext context);
+}
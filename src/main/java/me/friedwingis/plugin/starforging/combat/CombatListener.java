@@ -0,0 +1,67 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.managers.EquippedTraitCache;
+import me.friedwingis.plugin.starforging.timings.TimedHandler;
+import me.friedwingis.plugin.starforging.timings.Timings;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Feeds every player damage event into the {@link CombatPipeline} of the current config snapshot.
+ * Player-on-player hits arrive here too, since {@link EntityDamageByEntityEvent} shares the damage
+ * event's handlers.
+ */
+@RequiredArgsConstructor
+public class CombatListener implements Listener {
+
+    private final EquippedTraitCache traitCache;
+    private final ConfigService config;
+    private final CombatServices services;
+    private final Timings timings;
+
+    /**
+     * Handles damage events for players, running the handlers of any traits the victim
+     * (and, for player-on-player hits, the attacker) has equipped.
+     *
+     * @param event The EntityDamageEvent triggered when an entity takes damage.
+     */
+    @EventHandler
+    private void onEntityDamage(final EntityDamageEvent event) {
+        final long start = timings.start();
+        final Player attacker = event instanceof EntityDamageByEntityEvent byEntity
+                && byEntity.getDamager() instanceof Player damager ? damager : null;
+
+        final boolean procced = handleDamage(event, attacker);
+
+        // Player-on-player hits are reported separately, as they were before sharing this handler
+        timings.record(attacker != null ? TimedHandler.ENTITY_DAMAGE_BY_PLAYER : TimedHandler.ENTITY_DAMAGE, start, procced);
+    }
+
+    /**
+     * Runs the pipeline for a hit on a player.
+     *
+     * @return True if any trait procced.
+     */
+    private boolean handleDamage(final EntityDamageEvent event, final Player attacker) {
+        if (!(event.getEntity() instanceof Player victim))
+            return false; // Ignore non-player entities.
+
+        final long victimMask = traitCache.getMask(victim);
+        final long attackerMask = attacker != null ? traitCache.getMask(attacker) : 0L;
+        if (victimMask == 0L && attackerMask == 0L)
+            return false; // Neither side has a trait equipped.
+
+        final CombatContext context = new CombatContext(event, victim, attacker, victimMask, attackerMask, services);
+        config.get().getPipeline().fire(context);
+        return context.getProcs() > 0;
+    }
+}
@@ -0,0 +1,101 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+
+import java.util.Arrays;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Runs the trait handlers for a hit in {@link CombatStage} order. Handlers are indexed
+ * by stage, role and trait, so a hit only visits handlers for traits the victim or
+ * attacker actually has equipped, no matter how many traits exist.
+ */
+public class CombatPipeline {
+
+    private static final CombatHandler[] NONE = new CombatHandler[0];
+
+    private static final int STAGES = CombatStage.values().length;
+    private static final int ROLES = CombatRole.values().length;
+
+    // handlers[stage][role][trait] -> handlers in registration order
+    private final CombatHandler[][][][] handlers;
+    private volatile long traitMask; // Every trait with at least one handler
+
+    public CombatPipeline() {
+        final int traits = StarboundTrait.values().length;
+
+        this.handlers = new CombatHandler[STAGES][ROLES][traits][];
+        for (final CombatHandler[][][] byRole : handlers) {
+            for (final CombatHandler[][] byTrait : byRole)
+                Arrays.fill(byTrait, NONE);
+        }
+    }
+
+    /**
+     * Registers a handler to run for a trait at the given stage.
+     *
+     * @param trait   The trait the handler belongs to.
+     * @param stage   The stage the handler runs in.
+     * @param role    Whether the trait is read from the victim or the attacker.
+     * @param handler The handler to run.
+     */
+    public void register(final StarboundTrait trait, final CombatStage stage, final CombatRole role, final CombatHandler handler) {
+        final CombatHandler[][] byTrait = handlers[stage.ordinal()][role.ordinal()];
+        final CombatHandler[] current = byTrait[trait.ordinal()];
+
+        final CombatHandler[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = handler;
+        byTrait[trait.ordinal()] = updated;
+        traitMask |= trait.mask();
+    }
+
+    /**
+     * Registers a compiled effect to run for a trait, at the stage and role the effect declares.
+     *
+     * @param trait  The trait the effect belongs to.
+     * @param effect The effect to run.
+     */
+    public void register(final StarboundTrait trait, final TraitEffect effect) {
+        register(trait, effect.getStage(), effect.getRole(), effect);
+    }
+
+    /**
+     * Returns the mask of every trait with at least one handler. Hits where neither side has
+     * one of these traits do nothing, so the pipeline only needs events while someone wears one.
+     */
+    public long getTraitMask() {
+        return traitMask;
+    }
+
+    /**
+     * Runs every stage of the pipeline for a hit.
+     *
+     * @param context The hit to process.
+     */
+    public void fire(final CombatContext context) {
+        final long victimMask = context.getVictimMask(), attackerMask = context.getAttackerMask();
+        if (victimMask == 0L && attackerMask == 0L)
+            return; // Nobody involved has a trait, nothing to run.
+
+        for (int stage = 0; stage < STAGES; stage++) {
+            run(handlers[stage][CombatRole.VICTIM.ordinal()], victimMask, context);
+            run(handlers[stage][CombatRole.ATTACKER.ordinal()], attackerMask, context);
+        }
+    }
+
+    /**
+     * Runs the handlers of every trait set in the mask, visiting only the set bits.
+     */
+    private void run(final CombatHandler[][] byTrait, long mask, final CombatContext context) {
+        while (mask != 0L) {
+            final int trait = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1; // Clear the lowest set bit
+
+            for (final CombatHandler handler : byTrait[trait])
+                handler.handle(context);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package me.friedwingis.plugin.starforging.combat;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Which side of a hit a trait handler listens on.
+ */
+public enum CombatRole {
+    // The player taking damage
+    VICTIM,
+    // The player dealing damage (only present for player-on-player hits)
+    ATTACKER
+}
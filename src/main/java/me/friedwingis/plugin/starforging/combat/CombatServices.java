@@ -0,0 +1,18 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import me.friedwingis.plugin.starforging.managers.CooldownManager;
+import me.friedwingis.plugin.starforging.managers.ProcNotifier;
+import me.friedwingis.plugin.starforging.managers.RandomService;
+import me.friedwingis.plugin.starforging.managers.WorldEnvironmentService;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The services trait effects use while handling a hit. Handed to effects through the
+ * {@link CombatContext}, so compiled effects hold nothing but their own settings.
+ */
+public record CombatServices(RandomService random, WorldEnvironmentService environments,
+                             CooldownManager cooldowns, ProcNotifier notifier) {
+}
@@ -0,0 +1,18 @@
+package me.friedwingis.plugin.starforging.combat;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The ordered stages a damage event passes through in the {@link CombatPipeline}.
+ * Stages always run in declaration order.
+ */
+public enum CombatStage {
+    // Decide whether the hit happens at all (e.g. dodging fall damage)
+    PRE_DAMAGE,
+    // Scale or replace the damage dealt
+    DAMAGE_MODIFIER,
+    // Effects triggered by the hit (potions, teleports, messages)
+    POST_DAMAGE
+}
@@ -0,0 +1,120 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import lombok.Getter;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * One entry of a trait's "effects" list in config.yml, with typed and validated getters for the
+ * effect compilers. Missing settings fall back to the given default; settings that are present
+ * but invalid throw, so a typo skips the effect instead of silently changing it.
+ */
+public final class EffectSpec {
+
+    private final Map<?, ?> values;
+    @Getter private final String path; // Where the entry is in config.yml, for error messages
+
+    public EffectSpec(final Map<?, ?> values, final String path) {
+        this.values = values;
+        this.path = path;
+    }
+
+    /**
+     * Returns the effect's type, e.g. "ignore-damage".
+     */
+    public String getType() {
+        final Object type = values.get("type");
+        if (type == null)
+            throw new IllegalArgumentException("missing 'type'");
+        return type.toString();
+    }
+
+    public double getDouble(final String key, final double fallback) {
+        final Object value = values.get(key);
+        if (value == null)
+            return fallback;
+        if (value instanceof Number number)
+            return number.doubleValue();
+        throw new IllegalArgumentException("'" + key + "' must be a number, got '" + value + "'");
+    }
+
+    /**
+     * Reads a chance or share, which has to be between 0 and 1.
+     */
+    public double getChance(final String key, final double fallback) {
+        final double value = getDouble(key, fallback);
+        if (value < 0.0 || value > 1.0)
+            throw new IllegalArgumentException("'" + key + "' must be between 0 and 1, got " + value);
+        return value;
+    }
+
+    /**
+     * Reads a whole number that can't be negative, e.g. a duration in ticks.
+     */
+    public long getTicks(final String key, final long fallback) {
+        final double value = getDouble(key, fallback);
+        if (value < 0 || value != Math.rint(value))
+            throw new IllegalArgumentException("'" + key + "' must be a whole number of at least 0, got " + value);
+        return (long) value;
+    }
+
+    public EntityDamageEvent.DamageCause getDamageCause(final String key) {
+        final String name = getString(key);
+        try {
+            return EntityDamageEvent.DamageCause.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown damage cause '" + name + "'");
+        }
+    }
+
+    public PotionEffectType getPotion(final String key) {
+        final String name = getString(key);
+        final PotionEffectType type = Registry.EFFECT.get(NamespacedKey.minecraft(name.toLowerCase(Locale.ROOT)));
+        if (type == null)
+            throw new IllegalArgumentException("unknown potion effect '" + name + "'");
+        return type;
+    }
+
+    /**
+     * Reads "when", defaulting to {@link EnvironmentCondition#ALWAYS}.
+     */
+    public EnvironmentCondition getCondition() {
+        final Object value = values.get("when");
+        if (value == null)
+            return EnvironmentCondition.ALWAYS;
+
+        try {
+            return EnvironmentCondition.valueOf(value.toString().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown 'when' value '" + value + "'");
+        }
+    }
+
+    /**
+     * Reads the "message" and "label" shown when the effect procs, or returns null if it has neither.
+     * A missing label falls back to the message and the other way around.
+     */
+    public ProcNotification getNotification() {
+        final Object message = values.get("message"), label = values.get("label");
+        if (message == null && label == null)
+            return null;
+
+        return new ProcNotification(String.valueOf(message != null ? message : label), String.valueOf(label != null ? label : message));
+    }
+
+    private String getString(final String key) {
+        final Object value = values.get(key);
+        if (value == null)
+            throw new IllegalArgumentException("missing '" + key + "'");
+        return value.toString();
+    }
+}
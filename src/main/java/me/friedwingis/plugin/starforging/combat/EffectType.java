@@ -0,0 +1,56 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.friedwingis.plugin.starforging.combat.effects.DamageMultiplierEffect;
+import me.friedwingis.plugin.starforging.combat.effects.IgnoreDamageEffect;
+import me.friedwingis.plugin.starforging.combat.effects.LowHealthPotionEffect;
+import me.friedwingis.plugin.starforging.combat.effects.PotionOnHitEffect;
+import me.friedwingis.plugin.starforging.combat.effects.TeleportBehindAttackerEffect;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Every kind of effect a trait can list in config.yml, by the name used in its "type".
+ */
+@AllArgsConstructor
+public enum EffectType {
+    IGNORE_DAMAGE("ignore-damage", IgnoreDamageEffect::compile),
+    TELEPORT_BEHIND_ATTACKER("teleport-behind-attacker", TeleportBehindAttackerEffect::compile),
+    DAMAGE_MULTIPLIER("damage-multiplier", DamageMultiplierEffect::compile),
+    POTION_ON_HIT("potion-on-hit", PotionOnHitEffect::compile),
+    LOW_HEALTH_POTION("low-health-potion", LowHealthPotionEffect::compile);
+
+    private static final EffectType[] TYPES = values();
+
+    @Getter private final String key;
+    private final Compiler compiler;
+
+    /**
+     * Compiles an effect of this type for a trait.
+     *
+     * @throws IllegalArgumentException If a setting is invalid.
+     */
+    public TraitEffect compile(final StarboundTrait trait, final EffectSpec spec) {
+        return compiler.compile(trait, spec);
+    }
+
+    /**
+     * Returns the type with the given config name, or null if there is none.
+     */
+    public static EffectType byKey(final String key) {
+        for (final EffectType type : TYPES) {
+            if (type.key.equalsIgnoreCase(key))
+                return type;
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface Compiler {
+        TraitEffect compile(StarboundTrait trait, EffectSpec spec);
+    }
+}
@@ -0,0 +1,31 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import me.friedwingis.plugin.starforging.managers.WorldEnvironmentService;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * When an effect may trigger, based on the time and weather of the world the hit happens in.
+ * Set with "when" on an effect in config.yml.
+ */
+public enum EnvironmentCondition {
+    // Any time, any weather
+    ALWAYS,
+    // Daytime without a storm, in the overworld
+    DAYLIGHT,
+    // The hour around noon, without a storm, in the overworld
+    HIGH_NOON;
+
+    /**
+     * Returns true if the effect may trigger in this environment.
+     */
+    public boolean test(final WorldEnvironmentService.Environment environment) {
+        return switch (this) {
+            case ALWAYS -> true;
+            case DAYLIGHT -> environment.day && environment.clear;
+            case HIGH_NOON -> environment.day && environment.clear && environment.highNoon;
+        };
+    }
+}
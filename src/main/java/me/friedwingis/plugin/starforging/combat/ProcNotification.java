@@ -0,0 +1,30 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import lombok.Getter;
+import me.friedwingis.plugin.starforging.utils.Chat;
+import net.kyori.adventure.text.Component;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * What a player is told when a trait effect procs. Both forms are formatted once, when the
+ * effect is compiled: the chat message sent per proc, and the short label used in the combined
+ * action bar summary.
+ */
+@Getter
+public final class ProcNotification {
+
+    private final Component message; // Sent in chat for a single proc
+    private final Component label;   // Shown in the action bar summary
+
+    /**
+     * @param message The chat message, in MiniMessage format.
+     * @param label   The action bar label, in MiniMessage format.
+     */
+    public ProcNotification(final String message, final String label) {
+        this.message = Chat.format(message);
+        this.label = Chat.format(label);
+    }
+}
@@ -0,0 +1,71 @@
+package me.friedwingis.plugin.starforging.combat;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Checks whether a player can be teleported somewhere without suffocating or landing in
+ * something harmful. Only ever reads chunks that are already loaded and owned by the calling
+ * thread, so a check in the middle of combat can never load a chunk or touch another region.
+ */
+public final class SafeLocations {
+
+    // Blocks a player could stand in but shouldn't be put into
+    private static final Set<Material> HARMFUL = EnumSet.of(
+            Material.LAVA, Material.FIRE, Material.SOUL_FIRE, Material.COBWEB, Material.POWDER_SNOW,
+            Material.SWEET_BERRY_BUSH, Material.WITHER_ROSE, Material.NETHER_PORTAL, Material.END_PORTAL,
+            Material.END_GATEWAY
+    );
+
+    // Whether a player's feet or head can safely occupy a block, indexed by material ordinal
+    private static final boolean[] PASSABLE = buildPassable();
+
+    private SafeLocations() {
+    }
+
+    /**
+     * Returns true if a player standing at the location would have room for their feet and head.
+     * Returns false, without loading anything, if the chunk isn't loaded or belongs to another region.
+     */
+    public static boolean isSafe(final Location location) {
+        final World world = location.getWorld();
+        if (world == null)
+            return false;
+
+        final int x = location.getBlockX(), y = location.getBlockY(), z = location.getBlockZ();
+        if (y < world.getMinHeight() || y + 1 >= world.getMaxHeight())
+            return false;
+
+        // Reading a block in an unloaded chunk would load it, synchronously, mid-combat
+        if (!world.isChunkLoaded(x >> 4, z >> 4) || !Bukkit.isOwnedByCurrentRegion(world, x >> 4, z >> 4))
+            return false;
+
+        return isPassable(world.getBlockAt(x, y, z).getType()) && isPassable(world.getBlockAt(x, y + 1, z).getType());
+    }
+
+    /**
+     * Returns true if a player's feet or head can safely occupy a block of this material.
+     */
+    public static boolean isPassable(final Material material) {
+        return PASSABLE[material.ordinal()];
+    }
+
+    private static boolean[] buildPassable() {
+        final Material[] materials = Material.values();
+        final boolean[] passable = new boolean[materials.length];
+        for (final Material material : materials) {
+            passable[material.ordinal()] = material.isBlock() && !material.isLegacy()
+                    && !material.isSolid() && !HARMFUL.contains(material);
+        }
+        return passable;
+    }
+}
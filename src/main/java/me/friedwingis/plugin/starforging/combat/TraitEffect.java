@@ -0,0 +1,23 @@
+package me.friedwingis.plugin.starforging.combat;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * One combat effect of a Starbound trait, compiled from its entry in config.yml. Every setting
+ * is parsed into a final field when the config is loaded, so handling a hit never looks at the
+ * config again.
+ */
+public interface TraitEffect extends CombatHandler {
+
+    /**
+     * Returns the stage of the pipeline this effect runs in.
+     */
+    CombatStage getStage();
+
+    /**
+     * Returns the side of the hit the trait has to be equipped on.
+     */
+    CombatRole getRole();
+}
@@ -0,0 +1,61 @@
+package me.friedwingis.plugin.starforging.combat.effects;
+
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.combat.CombatContext;
+import me.friedwingis.plugin.starforging.combat.CombatRole;
+import me.friedwingis.plugin.starforging.combat.CombatStage;
+import me.friedwingis.plugin.starforging.combat.EffectSpec;
+import me.friedwingis.plugin.starforging.combat.EnvironmentCondition;
+import me.friedwingis.plugin.starforging.combat.ProcNotification;
+import me.friedwingis.plugin.starforging.combat.TraitEffect;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.entity.Player;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * "damage-multiplier" - scales the damage the wearer deals to other players, optionally only
+ * at certain times or with a chance, e.g. Solar Wrath's bonus damage in sunlight.
+ */
+@RequiredArgsConstructor
+public class DamageMultiplierEffect implements TraitEffect {
+
+    private final double multiplier;
+    private final EnvironmentCondition condition;
+    private final double chance;
+    private final ProcNotification notification;
+
+    public static DamageMultiplierEffect compile(final StarboundTrait trait, final EffectSpec spec) {
+        final double multiplier = spec.getDouble("multiplier", 1.0);
+        if (multiplier < 0)
+            throw new IllegalArgumentException("'multiplier' can't be negative, got " + multiplier);
+
+        return new DamageMultiplierEffect(multiplier, spec.getCondition(), spec.getChance("chance", 1.0), spec.getNotification());
+    }
+
+    @Override
+    public CombatStage getStage() {
+        return CombatStage.DAMAGE_MODIFIER;
+    }
+
+    @Override
+    public CombatRole getRole() {
+        return CombatRole.ATTACKER;
+    }
+
+    @Override
+    public void handle(final CombatContext context) {
+        final Player attacker = context.getAttacker();
+        if (!condition.test(context.getServices().environments().get(attacker.getWorld())))
+            return;
+        if (chance < 1.0 && !context.getServices().random().chance(attacker, chance))
+            return;
+
+        context.setDamage(context.getDamage() * multiplier);
+        context.proc();
+        if (notification != null)
+            context.getServices().notifier().notify(attacker, notification);
+    }
+}
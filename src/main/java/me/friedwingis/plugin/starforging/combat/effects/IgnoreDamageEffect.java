@@ -0,0 +1,53 @@
+package me.friedwingis.plugin.starforging.combat.effects;
+
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.combat.CombatContext;
+import me.friedwingis.plugin.starforging.combat.CombatRole;
+import me.friedwingis.plugin.starforging.combat.CombatStage;
+import me.friedwingis.plugin.starforging.combat.EffectSpec;
+import me.friedwingis.plugin.starforging.combat.ProcNotification;
+import me.friedwingis.plugin.starforging.combat.TraitEffect;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * "ignore-damage" - a chance for the wearer to take no damage of one cause, e.g. Void Step's fall damage dodge.
+ */
+@RequiredArgsConstructor
+public class IgnoreDamageEffect implements TraitEffect {
+
+    private final EntityDamageEvent.DamageCause cause;
+    private final double chance;
+    private final ProcNotification notification;
+
+    public static IgnoreDamageEffect compile(final StarboundTrait trait, final EffectSpec spec) {
+        return new IgnoreDamageEffect(spec.getDamageCause("cause"), spec.getChance("chance", 1.0), spec.getNotification());
+    }
+
+    @Override
+    public CombatStage getStage() {
+        return CombatStage.PRE_DAMAGE;
+    }
+
+    @Override
+    public CombatRole getRole() {
+        return CombatRole.VICTIM;
+    }
+
+    @Override
+    public void handle(final CombatContext context) {
+        final Player victim = context.getVictim();
+        if (context.getCause() != cause || !context.getServices().random().chance(victim, chance))
+            return;
+
+        context.cancel(); // Cancel the damage.
+        context.proc();
+        if (notification != null)
+            context.getServices().notifier().notify(victim, notification);
+    }
+}
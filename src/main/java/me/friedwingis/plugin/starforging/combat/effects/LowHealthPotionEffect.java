@@ -0,0 +1,68 @@
+package me.friedwingis.plugin.starforging.combat.effects;
+
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.combat.CombatContext;
+import me.friedwingis.plugin.starforging.combat.CombatRole;
+import me.friedwingis.plugin.starforging.combat.CombatStage;
+import me.friedwingis.plugin.starforging.combat.EffectSpec;
+import me.friedwingis.plugin.starforging.combat.ProcNotification;
+import me.friedwingis.plugin.starforging.combat.TraitEffect;
+import me.friedwingis.plugin.starforging.managers.CooldownManager;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * "low-health-potion" - gives the wearer a potion effect when a hit leaves them at or below a share
+ * of their max health, optionally on a cooldown, e.g. Galactic Reinforcement's Absorption.
+ * The cooldown belongs to the trait, so every cooldown effect of one trait shares it.
+ */
+@RequiredArgsConstructor
+public class LowHealthPotionEffect implements TraitEffect {
+
+    private final StarboundTrait trait;
+    private final double healthThreshold;
+    private final PotionEffect effect; // Potion effects are immutable, so one is shared by every proc
+    private final long cooldownTicks;
+    private final ProcNotification notification;
+
+    public static LowHealthPotionEffect compile(final StarboundTrait trait, final EffectSpec spec) {
+        final PotionEffect effect = new PotionEffect(spec.getPotion("potion"), (int) spec.getTicks("ticks", 60), (int) spec.getTicks("amplifier", 0));
+        return new LowHealthPotionEffect(trait, spec.getChance("health-threshold", 0.25), effect,
+                spec.getTicks("cooldown-ticks", 0), spec.getNotification());
+    }
+
+    @Override
+    public CombatStage getStage() {
+        return CombatStage.POST_DAMAGE;
+    }
+
+    @Override
+    public CombatRole getRole() {
+        return CombatRole.VICTIM;
+    }
+
+    @Override
+    public void handle(final CombatContext context) {
+        final Player player = context.getVictim();
+
+        // Check if the player's health is at or below the threshold share of their maximum
+        if (player.getHealth() > context.getVictimMaxHealth() * healthThreshold)
+            return;
+
+        final CooldownManager cooldowns = context.getServices().cooldowns();
+        if (cooldownTicks > 0 && cooldowns.isOnCooldown(player, trait))
+            return;
+
+        player.addPotionEffect(effect);
+        context.proc();
+        if (cooldownTicks > 0)
+            cooldowns.setCooldown(player, trait, cooldownTicks);
+        if (notification != null)
+            context.getServices().notifier().notify(player, notification);
+    }
+}
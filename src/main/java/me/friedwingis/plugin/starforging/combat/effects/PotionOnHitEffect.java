@@ -0,0 +1,62 @@
+package me.friedwingis.plugin.starforging.combat.effects;
+
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.combat.CombatContext;
+import me.friedwingis.plugin.starforging.combat.CombatRole;
+import me.friedwingis.plugin.starforging.combat.CombatStage;
+import me.friedwingis.plugin.starforging.combat.EffectSpec;
+import me.friedwingis.plugin.starforging.combat.EnvironmentCondition;
+import me.friedwingis.plugin.starforging.combat.ProcNotification;
+import me.friedwingis.plugin.starforging.combat.TraitEffect;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * "potion-on-hit" - a chance to give the player the wearer hits a potion effect, optionally only
+ * at certain times, e.g. Solar Wrath's blindness at high noon. The notification goes to the
+ * player who got the effect.
+ */
+@RequiredArgsConstructor
+public class PotionOnHitEffect implements TraitEffect {
+
+    private final PotionEffect effect; // Potion effects are immutable, so one is shared by every proc
+    private final EnvironmentCondition condition;
+    private final double chance;
+    private final ProcNotification notification;
+
+    public static PotionOnHitEffect compile(final StarboundTrait trait, final EffectSpec spec) {
+        final PotionEffectType type = spec.getPotion("potion");
+        final PotionEffect effect = new PotionEffect(type, (int) spec.getTicks("ticks", 40), (int) spec.getTicks("amplifier", 0));
+        return new PotionOnHitEffect(effect, spec.getCondition(), spec.getChance("chance", 1.0), spec.getNotification());
+    }
+
+    @Override
+    public CombatStage getStage() {
+        return CombatStage.POST_DAMAGE;
+    }
+
+    @Override
+    public CombatRole getRole() {
+        return CombatRole.ATTACKER;
+    }
+
+    @Override
+    public void handle(final CombatContext context) {
+        final Player attacker = context.getAttacker();
+        if (!condition.test(context.getServices().environments().get(attacker.getWorld()))
+                || !context.getServices().random().chance(attacker, chance))
+            return;
+
+        final Player victim = context.getVictim();
+        victim.addPotionEffect(effect);
+        context.proc();
+        if (notification != null)
+            context.getServices().notifier().notify(victim, notification);
+    }
+}
@@ -0,0 +1,62 @@
+package me.friedwingis.plugin.starforging.combat.effects;
+
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.combat.CombatContext;
+import me.friedwingis.plugin.starforging.combat.CombatRole;
+import me.friedwingis.plugin.starforging.combat.CombatStage;
+import me.friedwingis.plugin.starforging.combat.EffectSpec;
+import me.friedwingis.plugin.starforging.combat.ProcNotification;
+import me.friedwingis.plugin.starforging.combat.SafeLocations;
+import me.friedwingis.plugin.starforging.combat.TraitEffect;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * "teleport-behind-attacker" - a chance for the wearer to teleport behind the player who hit them,
+ * if there's room for them there, e.g. Void Step.
+ */
+@RequiredArgsConstructor
+public class TeleportBehindAttackerEffect implements TraitEffect {
+
+    private final double chance;
+    private final ProcNotification notification;
+
+    public static TeleportBehindAttackerEffect compile(final StarboundTrait trait, final EffectSpec spec) {
+        return new TeleportBehindAttackerEffect(spec.getChance("chance", 1.0), spec.getNotification());
+    }
+
+    @Override
+    public CombatStage getStage() {
+        return CombatStage.POST_DAMAGE;
+    }
+
+    @Override
+    public CombatRole getRole() {
+        return CombatRole.VICTIM;
+    }
+
+    @Override
+    public void handle(final CombatContext context) {
+        if (!context.isPvp() || !context.getServices().random().chance(context.getVictim(), chance))
+            return;
+
+        final Player victim = context.getVictim();
+        final Location attackerLocation = context.getAttacker().getLocation();
+        final Vector direction = attackerLocation.getDirection().normalize().multiply(-1);
+        final Location behindAttacker = attackerLocation.add(direction.setY(0)).add(0, 0.5, 0);
+
+        // Only checks loaded chunks, so an attacker at a chunk border can't make the proc load one
+        if (SafeLocations.isSafe(behindAttacker)) {
+            victim.teleportAsync(behindAttacker); // Teleport victim behind attacker, safe from any region thread.
+            context.proc();
+            if (notification != null)
+                context.getServices().notifier().notify(victim, notification);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package me.friedwingis.plugin.starforging.commands;
 
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.managers.ProcNotifier;
+import me.friedwingis.plugin.starforging.managers.RandomService;
+import me.friedwingis.plugin.starforging.managers.StardustWallet;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
 import me.friedwingis.plugin.starforging.struct.ForgeGUI;
 import me.friedwingis.plugin.starforging.utils.Chat;
 import org.bukkit.entity.Player;
@@ -17,14 +23,21 @@ import revxrsal.commands.bukkit.BukkitCommandActor;
  * Players use this to access the Starbound trait forging interface.
  */
 @Command({"celestialforge", "cforge"})
+@RequiredArgsConstructor
 public class CelestialForgeCommand {
 
+    private final StardustWallet wallet;
+    private final PlayerDataService playerData;
+    private final RandomService random;
+    private final ConfigService config;
+    private final ProcNotifier notifier;
+
     /**
      * Opens the Celestial Forge GUI when a player runs /celestialforge or /cforge with no arguments.
      */
     @DefaultFor({"celestialforge", "cforge"})
     private void onDefaultCommand(final Player player) {
-        new ForgeGUI().open(player);
+        new ForgeGUI(wallet, playerData, random, config).open(player);
     }
 
     /**
@@ -38,6 +51,23 @@ public class CelestialForgeCommand {
                 + "Once the forging is complete, your gear will be infused with extraordinary power—unlocking potent <yellow>Starbound Traits</yellow> "
                 + "that set you apart from the rest."));
         actor.reply(Chat.format("<gray> * Use <white>/celestialforge</white> to get started."));
+        actor.reply(Chat.format("<gray> * Use <white>/celestialforge notifications</white> to show or hide trait procs."));
+    }
+
+    /**
+     * Turns the player's trait proc notifications on or off.
+     */
+    @Subcommand("notifications")
+    private void onNotificationsSubcommand(final Player player) {
+        if (notifier.getMode() == ProcNotifier.Mode.OFF) {
+            player.sendMessage(Chat.warn("Trait proc notifications are disabled on this server."));
+            return;
+        }
+
+        if (notifier.toggle(player))
+            player.sendMessage(Chat.praise("You will now be told when your traits activate."));
+        else
+            player.sendMessage(Chat.praise("You will no longer be told when your traits activate."));
     }
 }
 
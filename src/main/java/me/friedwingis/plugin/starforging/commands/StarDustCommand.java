@@ -1,9 +1,13 @@
 package me.friedwingis.plugin.starforging.commands;
 
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.managers.StardustWallet;
 import me.friedwingis.plugin.starforging.utils.Chat;
 import me.friedwingis.plugin.starforging.utils.Constants;
+import me.friedwingis.plugin.starforging.utils.MessageTemplate;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
 import revxrsal.commands.annotation.Command;
 import revxrsal.commands.annotation.DefaultFor;
 import revxrsal.commands.annotation.Subcommand;
@@ -19,8 +23,16 @@ import revxrsal.commands.bukkit.annotation.CommandPermission;
  * Players can view info about StarDust or admins can give it to others.
  */
 @Command({"stardust", "sdust"})
+@RequiredArgsConstructor
 public class StarDustCommand {
 
+    private static final MessageTemplate GAVE_DUST = Chat.template(Chat.PRAISE + "Gave <player> <amount>x StarDust!", "player", "amount");
+    private static final MessageTemplate BALANCE = Chat.template("<gray>StarDust balance: <white><amount>", "amount");
+    private static final MessageTemplate DEPOSITED = Chat.template(Chat.PRAISE + "Deposited <amount>x StarDust into your wallet.", "amount");
+
+    private final Plugin plugin;
+    private final StardustWallet wallet;
+
     /**
      * Displays help and information about the StarDust system to the command sender.
      * Triggered when a player runs /stardust or /sdust with no arguments.
@@ -33,6 +45,58 @@ public class StarDustCommand {
                 + "The higher the crop tier, the greater the chance to find one—but it's never guaranteed. "
                 + "Once collected, bring your StarDust to the <white>/celestialforge</white> to imbue your armor with "
                 + "powerful <yellow>Starbound Traits</yellow> that can turn the tide of any battle."));
+
+        if (wallet.isEnabled() && actor.isPlayer())
+            actor.reply(BALANCE.render(wallet.getBalance(actor.getUniqueId())));
+    }
+
+    /**
+     * Shows the player's StarDust wallet balance.
+     */
+    @Subcommand("balance")
+    private void onBalanceSubcommand(final Player player) {
+        if (!wallet.isEnabled()) {
+            player.sendMessage(Chat.warn("StarDust is kept as items on this server, there is no wallet."));
+            return;
+        }
+
+        player.sendMessage(BALANCE.render(wallet.getBalance(player.getUniqueId())));
+    }
+
+    /**
+     * Moves every StarDust item in the player's inventory into their wallet.
+     */
+    @Subcommand("deposit")
+    private void onDepositSubcommand(final Player player) {
+        if (!wallet.isEnabled()) {
+            player.sendMessage(Chat.warn("StarDust is kept as items on this server, there is no wallet."));
+            return;
+        }
+        // The items are taken before the deposit, so only deposit into a balance that can't be discarded
+        if (!wallet.isLoaded(player.getUniqueId())) {
+            player.sendMessage(Chat.warn("Your wallet is still loading, please try again in a moment."));
+            return;
+        }
+
+        final ItemStack[] contents = player.getInventory().getStorageContents();
+        int deposited = 0;
+
+        for (int i = 0; i < contents.length; i++) {
+            final ItemStack item = contents[i];
+            if (item == null || !item.hasItemMeta() || !item.getItemMeta().getPersistentDataContainer().has(Constants.STARDUST_KEY))
+                continue;
+
+            deposited += item.getAmount();
+            player.getInventory().setItem(i, null);
+        }
+
+        if (deposited == 0) {
+            player.sendMessage(Chat.warn("You don't have any StarDust to deposit."));
+            return;
+        }
+
+        wallet.deposit(player.getUniqueId(), deposited);
+        player.sendMessage(DEPOSITED.render(deposited));
     }
 
     /**
@@ -42,12 +106,17 @@ public class StarDustCommand {
     @Subcommand("givedust")
     @CommandPermission("starforging.givedust")
     private void onGiveSubcommand(final BukkitCommandActor actor, final Player target, final int amount) {
-        final ItemStack stardust = Constants.STARDUST.asQuantity(amount);
+        if (wallet.isEnabled()) {
+            wallet.deposit(target.getUniqueId(), amount); // Credit the wallet directly
+        } else {
+            final ItemStack stardust = Constants.stardust().asQuantity(amount);
 
-        // Give the item directly or drop it near the player if their inventory is full
-        giveOrDropItem(target, stardust);
+            // Give the item directly or drop it near the player if their inventory is full.
+            // The target may be in another region, so this runs on their own scheduler.
+            target.getScheduler().run(plugin, scheduled -> giveOrDropItem(target, stardust), null);
+        }
 
-        actor.reply(Chat.praise("Gave %s %dx StarDust!".formatted(target.getName(), amount)));
+        actor.reply(GAVE_DUST.render(target.getName(), amount));
     }
 
     /**
@@ -0,0 +1,218 @@
+package me.friedwingis.plugin.starforging.commands;
+
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.bulkforge.BulkForgeJob;
+import me.friedwingis.plugin.starforging.bulkforge.BulkForgeService;
+import me.friedwingis.plugin.starforging.bulkforge.TraitDistribution;
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.scheduler.WorkPriority;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.timings.TimedHandler;
+import me.friedwingis.plugin.starforging.timings.Timings;
+import me.friedwingis.plugin.starforging.timings.TimingsReport;
+import me.friedwingis.plugin.starforging.utils.Chat;
+import me.friedwingis.plugin.starforging.utils.MessageTemplate;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Optional;
+import revxrsal.commands.annotation.Subcommand;
+import revxrsal.commands.bukkit.BukkitCommandActor;
+import revxrsal.commands.bukkit.annotation.CommandPermission;
+
+import java.util.function.Function;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Handles the /starforging (or /sf) admin command and its subcommands.
+ */
+@Command({"starforging", "sf"})
+@CommandPermission("starforging.admin")
+@RequiredArgsConstructor
+public class StarForgingCommand {
+
+    private static final MessageTemplate HEADER = Chat.template("<gradient:#e0e0e0:#ffffff><b>StarForging Timings</b></gradient> <gray>(<view>)", "view");
+    private static final MessageTemplate HANDLER_LINE = Chat.template(
+            "<white><handler> <gray>calls <white><calls></white>, <procname> <white><procs></white>, "
+                    + "p50 <white><p50></white>, p99 <white><p99></white>, max <white><max>",
+            "handler", "calls", "procname", "procs", "p50", "p99", "max");
+    private static final MessageTemplate CHAT_CACHE = Chat.template(
+            "<white>Chat cache <gray>hits <white><hits></white>, misses <white><misses></white>, size <white><size>",
+            "hits", "misses", "size");
+    private static final MessageTemplate BULK_FORGE_STARTED = Chat.template(
+            Chat.PRAISE + "Started bulk forge #<id> over <total> <unit> (<distribution>).", "id", "total", "unit", "distribution");
+    private static final MessageTemplate RELOAD_FAILED = Chat.template(
+            Chat.SEVERE + "config.yml could not be loaded, keeping the current values: <error>", "error");
+    private static final MessageTemplate NO_BULK_FORGE = Chat.template(Chat.WARN + "There is no bulk forge #<id> running.", "id");
+    private static final MessageTemplate SCHEDULER_HEADER = Chat.template(
+            "<gradient:#e0e0e0:#ffffff><b>StarForging Scheduler</b></gradient> <gray>(budget <budget>/tick)", "budget");
+    private static final MessageTemplate QUEUE_LINE = Chat.template("<white><priority> <gray>queued <white><queued>", "priority", "queued");
+    private static final MessageTemplate SCHEDULER_TOTALS = Chat.template(
+            "<white>Tasks <gray>submitted <white><submitted></white>, coalesced <white><coalesced></white>, executed <white><executed>",
+            "submitted", "coalesced", "executed");
+    private static final MessageTemplate SCHEDULER_BACKPRESSURE = Chat.template(
+            "<white>Backpressure <gray>deferred ticks <white><deferred></white>, lagging ticks <white><lagging></white>, "
+                    + "max backlog <white><backlog></white>, max wait <white><wait></white>, last tick <white><last>",
+            "deferred", "lagging", "backlog", "wait", "last");
+
+    private final Timings timings;
+    private final BulkForgeService bulkForge;
+    private final WorkScheduler scheduler;
+    private final ConfigService config;
+
+    /**
+     * Shows every handler's timings since startup or the last reset.
+     */
+    @Subcommand("timings")
+    private void onTimingsSubcommand(final BukkitCommandActor actor) {
+        sendTimings(actor, "since reset", timings::report);
+    }
+
+    /**
+     * Shows every handler's timings over the rolling window only.
+     */
+    @Subcommand("timings window")
+    private void onTimingsWindowSubcommand(final BukkitCommandActor actor) {
+        sendTimings(actor, "last " + timings.getWindowSeconds() + "s", timings::reportWindow);
+    }
+
+    /**
+     * Clears all recorded timings.
+     */
+    @Subcommand("timings reset")
+    private void onTimingsResetSubcommand(final BukkitCommandActor actor) {
+        timings.reset();
+        actor.reply(Chat.praise("Timings have been reset."));
+    }
+
+    /**
+     * Shows the depth of every scheduler queue and how often work had to wait for a later tick.
+     */
+    @Subcommand("scheduler")
+    private void onSchedulerSubcommand(final BukkitCommandActor actor) {
+        actor.reply(Chat.EMPTY_STRING);
+        actor.reply(SCHEDULER_HEADER.render(formatNanos(scheduler.getBudgetNanos())));
+
+        for (final WorkPriority priority : WorkPriority.values())
+            actor.reply(QUEUE_LINE.render(priority.name(), scheduler.getQueued(priority)));
+
+        actor.reply(SCHEDULER_TOTALS.render(scheduler.getSubmitted(), scheduler.getCoalesced(), scheduler.getExecuted()));
+        actor.reply(SCHEDULER_BACKPRESSURE.render(scheduler.getDeferredTicks(), scheduler.getLaggingTicks(), scheduler.getMaxQueued(),
+                formatNanos(scheduler.getMaxWaitNanos()), formatNanos(scheduler.getLastTickNanos())));
+    }
+
+    /**
+     * Re-reads the drop tables, forge costs and odds, and trait chances and cooldowns from config.yml.
+     * The file is parsed off the server threads, and the new values apply from the next event on.
+     */
+    @Subcommand("reload")
+    private void onReloadSubcommand(final BukkitCommandActor actor) {
+        actor.reply(Chat.format("<gray>Reloading config.yml..."));
+        config.reload().whenComplete((snapshot, error) -> {
+            if (error != null)
+                actor.reply(RELOAD_FAILED.render(String.valueOf(error.getMessage()))); // Parser messages hold '<', so never parsed
+            else
+                actor.reply(Chat.praise("Reloaded config.yml. Settings outside drops, forge and traits still need a restart."));
+        });
+    }
+
+    /**
+     * Forges every Diamond and Netherite armor piece in the containers of an x/z area, spread over ticks.
+     * The distribution is optional, e.g. VOID_STEP:25,SOLAR_WRATH:60,GALACTIC_REINFORCEMENT:15.
+     */
+    @Subcommand("bulkforge region")
+    private void onBulkForgeRegionSubcommand(final BukkitCommandActor actor, final World world, final int x1, final int z1,
+                                             final int x2, final int z2, @Optional final String distribution) {
+        final TraitDistribution odds = parseDistribution(actor, distribution);
+        if (odds == null)
+            return;
+
+        try {
+            announce(actor, bulkForge.forgeRegion(actor.getSender(), world, x1, z1, x2, z2, odds), odds);
+        } catch (final IllegalArgumentException e) {
+            actor.reply(Chat.warn(e.getMessage()));
+        }
+    }
+
+    /**
+     * Forges every Diamond and Netherite armor piece in an online player's ender chest.
+     */
+    @Subcommand("bulkforge enderchest")
+    private void onBulkForgeEnderChestSubcommand(final BukkitCommandActor actor, final Player target, @Optional final String distribution) {
+        final TraitDistribution odds = parseDistribution(actor, distribution);
+        if (odds != null)
+            announce(actor, bulkForge.forgeEnderChest(actor.getSender(), target, odds), odds);
+    }
+
+    /**
+     * Shows the progress of every running bulk forge.
+     */
+    @Subcommand("bulkforge status")
+    private void onBulkForgeStatusSubcommand(final BukkitCommandActor actor) {
+        if (bulkForge.getJobs().isEmpty()) {
+            actor.reply(Chat.warn("There are no bulk forges running."));
+            return;
+        }
+
+        for (final BulkForgeJob job : bulkForge.getJobs())
+            actor.reply(job.renderProgress());
+    }
+
+    @Subcommand("bulkforge cancel")
+    private void onBulkForgeCancelSubcommand(final BukkitCommandActor actor, final int id) {
+        final BulkForgeJob job = bulkForge.getJob(id);
+        if (job == null) {
+            actor.reply(NO_BULK_FORGE.render(id));
+            return;
+        }
+
+        job.cancel("cancelled by " + actor.getName());
+    }
+
+    private TraitDistribution parseDistribution(final BukkitCommandActor actor, final String input) {
+        if (input == null)
+            return bulkForge.getDefaultDistribution();
+
+        try {
+            return TraitDistribution.parse(input);
+        } catch (final IllegalArgumentException e) {
+            actor.reply(Chat.warn(e.getMessage()));
+            return null;
+        }
+    }
+
+    private void announce(final BukkitCommandActor actor, final BulkForgeJob job, final TraitDistribution odds) {
+        actor.reply(BULK_FORGE_STARTED.render(job.getId(), job.total(), job.unit(), odds.describe()));
+    }
+
+    private void sendTimings(final BukkitCommandActor actor, final String view, final Function<TimedHandler, TimingsReport> reporter) {
+        if (!timings.isEnabled()) {
+            actor.reply(Chat.warn("Timings are disabled in the config."));
+            return;
+        }
+
+        actor.reply(Chat.EMPTY_STRING);
+        actor.reply(HEADER.render(view));
+
+        for (final TimedHandler handler : TimedHandler.values()) {
+            final TimingsReport report = reporter.apply(handler);
+            actor.reply(HANDLER_LINE.render(handler.getDisplayName(), report.getCalls(), handler.getProcName(),
+                    report.getProcs(), formatNanos(report.getP50Nanos()), formatNanos(report.getP99Nanos()),
+                    formatNanos(report.getMaxNanos())));
+        }
+
+        actor.reply(CHAT_CACHE.render(Chat.getCacheHits(), Chat.getCacheMisses(), Chat.getCacheSize()));
+    }
+
+    /**
+     * Formats a duration as µs below a millisecond and ms above it.
+     */
+    private static String formatNanos(final long nanos) {
+        if (nanos < 1_000_000L)
+            return String.format("%.1fµs", nanos / 1_000.0);
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
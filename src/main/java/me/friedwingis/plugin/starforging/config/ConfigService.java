@@ -0,0 +1,87 @@
+package me.friedwingis.plugin.starforging.config;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Holds the current {@link ConfigSnapshot}. Hot paths call {@link #get()}, a single volatile read,
+ * and use whatever snapshot it returns for the rest of the event, so one event never mixes old and
+ * new values. A reload reads and parses config.yml on an async thread and publishes the result
+ * with one write; a broken file leaves the current snapshot in place.
+ */
+public class ConfigService {
+
+    private final Plugin plugin;
+    private volatile ConfigSnapshot current;
+
+    /**
+     * @param plugin  The plugin whose config.yml is reloaded.
+     * @param initial The snapshot to start with, usually parsed from the config loaded in onEnable.
+     */
+    public ConfigService(final Plugin plugin, final ConfigSnapshot initial) {
+        this.plugin = plugin;
+        this.current = initial;
+    }
+
+    /**
+     * Returns the current snapshot. Never blocks.
+     */
+    public ConfigSnapshot get() {
+        return current;
+    }
+
+    /**
+     * Re-reads config.yml off the server threads and swaps in the new snapshot once it's parsed.
+     *
+     * @return Completes with the new snapshot, or exceptionally (with the cause logged) if the file couldn't be read or parsed.
+     */
+    public CompletableFuture<ConfigSnapshot> reload() {
+        final CompletableFuture<ConfigSnapshot> result = new CompletableFuture<>();
+        plugin.getServer().getAsyncScheduler().runNow(plugin, task -> {
+            try {
+                final ConfigSnapshot snapshot = ConfigSnapshot.fromConfig(read(), plugin.getLogger());
+                this.current = snapshot;
+                result.complete(snapshot);
+            } catch (final Throwable t) {
+                // Anything thrown here would vanish with the async task, so always hand it to the caller
+                plugin.getLogger().log(Level.SEVERE, "Failed to reload config.yml", t);
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Loads config.yml into a fresh config, leaving the plugin's own {@code getConfig()} untouched
+     * since other threads may be reading it. The bundled config.yml is set as its defaults, as it is
+     * for {@code getConfig()}, so a missing section means the same thing on reload as on startup.
+     */
+    private YamlConfiguration read() throws IOException, InvalidConfigurationException {
+        final YamlConfiguration yaml = new YamlConfiguration();
+        final File file = new File(plugin.getDataFolder(), "config.yml");
+        if (file.isFile())
+            yaml.load(file);
+
+        final InputStream bundled = plugin.getResource("config.yml");
+        if (bundled != null) {
+            try (final Reader reader = new InputStreamReader(bundled, StandardCharsets.UTF_8)) {
+                yaml.setDefaults(YamlConfiguration.loadConfiguration(reader));
+            }
+        }
+        return yaml;
+    }
+}
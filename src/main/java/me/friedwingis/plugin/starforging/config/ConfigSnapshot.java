@@ -0,0 +1,210 @@
+package me.friedwingis.plugin.starforging.config;
+
+import com.google.common.collect.Lists;
+import lombok.AccessLevel;
+import lombok.Getter;
+import me.friedwingis.plugin.starforging.bulkforge.TraitDistribution;
+import me.friedwingis.plugin.starforging.combat.CombatPipeline;
+import me.friedwingis.plugin.starforging.combat.EffectSpec;
+import me.friedwingis.plugin.starforging.combat.EffectType;
+import me.friedwingis.plugin.starforging.drops.DropTables;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.enchantments.EnchantmentTarget;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The balance values of config.yml (drop tables, forge costs and odds, trait effects), parsed once
+ * into plain fields, arrays and compiled effects. A snapshot never changes after it's built, so any
+ * thread can read it without locking; a reload builds a new one and {@link ConfigService} swaps it in.
+ * The trait catalog itself is loaded once on enable, see {@link StarboundTrait#loadCatalog}.
+ */
+@Getter
+public final class ConfigSnapshot {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private final DropTables drops;
+    // Every trait's effects, compiled into the pipeline the combat listener fires
+    private final CombatPipeline pipeline;
+    // Forge odds from each trait's "default" weight
+    private final TraitDistribution forgeOdds;
+    // Forge odds per armor piece, indexed by material ordinal, null where it can't be forged
+    @Getter(AccessLevel.NONE) private final TraitDistribution[] forgeOddsByMaterial;
+    // Stardust needed to forge each armor piece, indexed by material ordinal, -1 if it can't be forged
+    @Getter(AccessLevel.NONE) private final int[] dustCosts;
+    private final int diamondDustCost;
+    private final int netheriteDustCost;
+
+    private ConfigSnapshot(final ConfigurationSection root, final Logger logger) {
+        this.drops = DropTables.fromConfig(root.getConfigurationSection("drops"), logger);
+
+        this.diamondDustCost = Math.max(1, root.getInt("forge.dust-cost.diamond", 48));
+        this.netheriteDustCost = Math.max(1, root.getInt("forge.dust-cost.netherite", 64));
+        this.dustCosts = new int[MATERIALS.length];
+        Arrays.fill(dustCosts, -1);
+        for (final Material material : MATERIALS) {
+            if (material.isLegacy() || !EnchantmentTarget.ARMOR.includes(material))
+                continue;
+
+            final String name = material.name();
+            if (name.startsWith("DIAMOND_"))
+                dustCosts[material.ordinal()] = diamondDustCost;
+            else if (name.startsWith("NETHERITE_"))
+                dustCosts[material.ordinal()] = netheriteDustCost;
+        }
+
+        final ConfigurationSection traits = root.getConfigurationSection("traits");
+        this.pipeline = compileEffects(traits, logger);
+
+        final TraitDistribution fallback = distribution(weights(traits, null), null, "default", logger);
+        this.forgeOdds = fallback;
+        this.forgeOddsByMaterial = new TraitDistribution[MATERIALS.length];
+
+        // Most pieces end up with the same weights, so they share one distribution
+        final List<double[]> seen = Lists.newArrayList();
+        final List<TraitDistribution> shared = Lists.newArrayList();
+        for (final Material material : MATERIALS) {
+            if (dustCosts[material.ordinal()] < 0)
+                continue;
+
+            final double[] weights = weights(traits, material);
+            int index = 0;
+            while (index < seen.size() && !Arrays.equals(seen.get(index), weights))
+                index++;
+            if (index == seen.size()) {
+                seen.add(weights);
+                shared.add(distribution(weights, fallback, material.name(), logger));
+            }
+            forgeOddsByMaterial[material.ordinal()] = shared.get(index);
+        }
+    }
+
+    /**
+     * Parses a snapshot from a loaded config.yml. Missing values fall back to the shipped defaults,
+     * and invalid ones are logged and skipped or replaced by them, so this never fails halfway.
+     *
+     * @param root   The root of config.yml.
+     * @param logger Logger for invalid entries.
+     */
+    public static ConfigSnapshot fromConfig(final ConfigurationSection root, final Logger logger) {
+        return new ConfigSnapshot(root, logger);
+    }
+
+    /**
+     * Returns the Stardust needed to forge an item of this material, or -1 if it can't be forged.
+     */
+    public int getDustCost(final Material material) {
+        return dustCosts[material.ordinal()];
+    }
+
+    /**
+     * Returns the forge odds for an armor piece of this material, or the default odds if the
+     * material can't be forged.
+     */
+    public TraitDistribution getForgeOdds(final Material material) {
+        final TraitDistribution odds = forgeOddsByMaterial[material.ordinal()];
+        return odds != null ? odds : forgeOdds;
+    }
+
+    /**
+     * Compiles the "effects" list of every trait in the catalog. An effect with an unknown type or an
+     * invalid setting is logged and skipped, leaving the trait's other effects in place.
+     */
+    private static CombatPipeline compileEffects(final ConfigurationSection traits, final Logger logger) {
+        final CombatPipeline pipeline = new CombatPipeline();
+        if (traits == null)
+            return pipeline;
+
+        for (final StarboundTrait trait : StarboundTrait.values()) {
+            final List<Map<?, ?>> effects = traits.getMapList(key(traits, trait) + ".effects");
+            for (int i = 0; i < effects.size(); i++) {
+                final EffectSpec spec = new EffectSpec(effects.get(i), traits.getCurrentPath() + "." + trait.name() + ".effects[" + i + "]");
+                try {
+                    final EffectType type = EffectType.byKey(spec.getType());
+                    if (type == null)
+                        throw new IllegalArgumentException("unknown type '" + spec.getType() + "'");
+
+                    pipeline.register(trait, type.compile(trait, spec));
+                } catch (final IllegalArgumentException e) {
+                    logger.warning("Skipping the effect at " + spec.getPath() + ": " + e.getMessage() + ".");
+                }
+            }
+        }
+        return pipeline;
+    }
+
+    /**
+     * Reads every trait's forge weight for a material, by trait ordinal. A trait's "weight" is either a
+     * number used everywhere, or a section keyed by material (e.g. NETHERITE_HELMET), tier (diamond,
+     * netherite) and "default", where the most specific key wins. Traits without a weight never roll.
+     *
+     * @param material The armor piece, or null for the default weights.
+     */
+    private static double[] weights(final ConfigurationSection traits, final Material material) {
+        final StarboundTrait[] catalog = StarboundTrait.values();
+        final double[] weights = new double[catalog.length];
+        if (traits == null)
+            return weights;
+
+        final String tier = material != null ? material.name().substring(0, material.name().indexOf('_')).toLowerCase(Locale.ROOT) : null;
+        for (final StarboundTrait trait : catalog) {
+            final String path = key(traits, trait) + ".weight";
+            final ConfigurationSection section = traits.getConfigurationSection(path);
+
+            final double weight;
+            if (section == null)
+                weight = traits.getDouble(path, 0);
+            else if (material != null && section.contains(material.name()))
+                weight = section.getDouble(material.name());
+            else if (tier != null && section.contains(tier))
+                weight = section.getDouble(tier);
+            else
+                weight = section.getDouble("default", 0);
+
+            weights[trait.ordinal()] = Math.max(0, weight);
+        }
+        return weights;
+    }
+
+    /**
+     * Builds a distribution, falling back when every weight is 0. The default odds fall back to
+     * equal weights, so the forge always has something to hand out.
+     */
+    private static TraitDistribution distribution(final double[] weights, final TraitDistribution fallback, final String label, final Logger logger) {
+        try {
+            return new TraitDistribution(weights);
+        } catch (final IllegalArgumentException e) {
+            if (fallback != null) {
+                logger.warning("No trait has a forge weight above 0 for " + label + ", using the default odds.");
+                return fallback;
+            }
+
+            logger.warning("No trait has a default forge weight above 0, every trait gets the same odds.");
+            final double[] equal = new double[weights.length];
+            Arrays.fill(equal, 1);
+            return new TraitDistribution(equal);
+        }
+    }
+
+    /**
+     * Returns the key a trait was loaded from, which may differ from its name in case.
+     */
+    private static String key(final ConfigurationSection traits, final StarboundTrait trait) {
+        for (final String key : traits.getKeys(false)) {
+            if (key.equalsIgnoreCase(trait.name()))
+                return key;
+        }
+        return trait.name();
+    }
+}
@@ -0,0 +1,58 @@
+package me.friedwingis.plugin.starforging.drops;
+
+import org.bukkit.Material;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The Stardust drop tiers of every crop in a world, stored in an array indexed by
+ * material ordinal so a lookup is a single array read.
+ */
+public final class DropTable {
+
+    // Tiers per material ordinal, null when the material never drops Stardust
+    private final DropTier[][] tiers;
+
+    DropTable(final DropTier[][] tiers) {
+        this.tiers = tiers;
+    }
+
+    /**
+     * Returns the tiers for a material, or null if it never drops Stardust.
+     */
+    public DropTier[] getTiers(final Material material) {
+        return tiers[material.ordinal()];
+    }
+
+    /**
+     * Rolls the Stardust dropped by breaking a block. Tiers are exclusive bands, so a single
+     * roll picks at most one of them, checked in the order they were configured.
+     *
+     * @param material    The type of the broken block.
+     * @param tierRoll    A random value in [0, 1) used to pick the tier.
+     * @param amountRoll  A random value in [0, 1) used to pick the amount within the tier.
+     * @return The amount of Stardust dropped, or 0 for none.
+     */
+    public int roll(final Material material, final double tierRoll, final double amountRoll) {
+        final DropTier[] materialTiers = tiers[material.ordinal()];
+        if (materialTiers == null)
+            return 0;
+
+        double cumulative = 0.0;
+        for (final DropTier tier : materialTiers) {
+            cumulative += tier.getChance();
+            if (tierRoll < cumulative)
+                return tier.rollAmount(amountRoll);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns a copy of the per-material tiers, used to layer world overrides on top of a table.
+     */
+    DropTier[][] copyTiers() {
+        return tiers.clone();
+    }
+}
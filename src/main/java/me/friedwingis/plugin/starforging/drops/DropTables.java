@@ -0,0 +1,146 @@
+package me.friedwingis.plugin.starforging.drops;
+
+import com.google.common.collect.Maps;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The default drop table plus any per-world overrides, loaded from the "drops" section of config.yml.
+ * A precomputed flag per material lets the common "not a crop" case return before any other work.
+ */
+public final class DropTables {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    // True for every material that drops Stardust in at least one world
+    private final boolean[] droppable;
+    private final DropTable defaults;
+    private final Map<String, DropTable> worlds;
+
+    private DropTables(final boolean[] droppable, final DropTable defaults, final Map<String, DropTable> worlds) {
+        this.droppable = droppable;
+        this.defaults = defaults;
+        this.worlds = worlds;
+    }
+
+    /**
+     * Returns true if the material can drop Stardust in any world.
+     */
+    public boolean canDrop(final Material material) {
+        return droppable[material.ordinal()];
+    }
+
+    /**
+     * Returns the table that applies in the given world.
+     */
+    public DropTable forWorld(final World world) {
+        if (worlds.isEmpty())
+            return defaults;
+
+        final DropTable table = worlds.get(world.getName());
+        return table != null ? table : defaults;
+    }
+
+    /**
+     * Builds the drop tables from config. The "default" section applies everywhere, and each entry
+     * under "worlds" replaces the tiers of the crops it lists in that world. Setting a crop to 0
+     * in a world removes its drops there.
+     *
+     * @param section The "drops" config section, may be null.
+     * @param logger  Logger for invalid entries, which are skipped.
+     * @return The loaded tables.
+     */
+    public static DropTables fromConfig(final ConfigurationSection section, final Logger logger) {
+        final DropTier[][] defaultTiers = new DropTier[MATERIALS.length][];
+        if (section != null)
+            readTiers(section.getConfigurationSection("default"), defaultTiers, logger);
+
+        final DropTable defaults = new DropTable(defaultTiers);
+        final Map<String, DropTable> worlds = Maps.newHashMap();
+        final ConfigurationSection worldSection = section != null ? section.getConfigurationSection("worlds") : null;
+
+        if (worldSection != null) {
+            for (final String world : worldSection.getKeys(false)) {
+                final DropTier[][] worldTiers = defaults.copyTiers();
+                readTiers(worldSection.getConfigurationSection(world), worldTiers, logger);
+                worlds.put(world, new DropTable(worldTiers));
+            }
+        }
+
+        final boolean[] droppable = new boolean[MATERIALS.length];
+        markDroppable(defaultTiers, droppable);
+        for (final DropTable table : worlds.values())
+            markDroppable(table.copyTiers(), droppable);
+
+        return new DropTables(droppable, defaults, worlds);
+    }
+
+    private static void markDroppable(final DropTier[][] tiers, final boolean[] droppable) {
+        for (int i = 0; i < tiers.length; i++) {
+            if (tiers[i] != null)
+                droppable[i] = true;
+        }
+    }
+
+    /**
+     * Reads every crop in a section into the tier array. A crop may be a plain chance
+     * (one tier of 1 Stardust) or a list of tiers with "chance" and "amount" ("2" or "1-3").
+     */
+    private static void readTiers(final ConfigurationSection section, final DropTier[][] tiers, final Logger logger) {
+        if (section == null)
+            return;
+
+        for (final String key : section.getKeys(false)) {
+            final Material material = Material.matchMaterial(key);
+            if (material == null) {
+                logger.warning("Unknown material '" + key + "' in drop table " + section.getCurrentPath() + ", skipping.");
+                continue;
+            }
+
+            final DropTier[] parsed = section.isList(key)
+                    ? parseTierList(section.getMapList(key), section.getCurrentPath() + "." + key, logger)
+                    : new DropTier[]{new DropTier(section.getDouble(key), 1, 1)};
+
+            tiers[material.ordinal()] = hasChance(parsed) ? parsed : null;
+        }
+    }
+
+    private static DropTier[] parseTierList(final List<Map<?, ?>> entries, final String path, final Logger logger) {
+        final DropTier[] parsed = new DropTier[entries.size()];
+
+        for (int i = 0; i < entries.size(); i++) {
+            final Map<?, ?> entry = entries.get(i);
+            final double chance = entry.get("chance") instanceof Number number ? number.doubleValue() : 0.0;
+            final String amount = String.valueOf(entry.containsKey("amount") ? entry.get("amount") : 1);
+
+            int min = 1, max = 1;
+            try {
+                final int dash = amount.indexOf('-');
+                min = Integer.parseInt((dash < 0 ? amount : amount.substring(0, dash)).trim());
+                max = dash < 0 ? min : Integer.parseInt(amount.substring(dash + 1).trim());
+            } catch (final NumberFormatException e) {
+                logger.warning("Invalid amount '" + amount + "' in drop table " + path + ", using 1.");
+            }
+
+            parsed[i] = new DropTier(chance, Math.max(1, min), Math.max(min, max));
+        }
+        return parsed;
+    }
+
+    private static boolean hasChance(final DropTier[] tiers) {
+        for (final DropTier tier : tiers) {
+            if (tier.getChance() > 0.0)
+                return true;
+        }
+        return false;
+    }
+}
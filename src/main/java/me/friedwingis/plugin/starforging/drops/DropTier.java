@@ -0,0 +1,30 @@
+package me.friedwingis.plugin.starforging.drops;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * A single drop outcome for a crop: the chance it is picked and how much Stardust it gives.
+ */
+@Getter
+@AllArgsConstructor
+public final class DropTier {
+    private final double chance;
+    private final int minAmount;
+    private final int maxAmount;
+
+    /**
+     * Picks an amount between the min and max (inclusive).
+     *
+     * @param random A random value in [0, 1).
+     */
+    public int rollAmount(final double random) {
+        if (maxAmount <= minAmount)
+            return minAmount;
+        return minAmount + (int) (random * (maxAmount - minAmount + 1));
+    }
+}
@@ -0,0 +1,141 @@
+package me.friedwingis.plugin.starforging.managers;
+
+import com.google.common.collect.Maps;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.friedwingis.plugin.starforging.storage.PlayerData;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Trait cooldowns, stored as the tick each one expires on, in a primitive
+ * array per player indexed by trait. Checking a cooldown is a map lookup and an
+ * array read, with no allocation.
+ *
+ * Ticks come from a counter advanced by the global region scheduler rather than the
+ * server's tick count, which has no single meaning when regions tick independently.
+ */
+public class CooldownManager implements Listener {
+
+    private final Map<UUID, long[]> expiries = new ConcurrentHashMap<>();
+    private final PlayerDataService playerData;
+    private final boolean persist;
+
+    private volatile long currentTick; // Only ever advanced by the clock task
+    private ScheduledTask clockTask;
+
+    /**
+     * @param playerData Where remaining cooldowns are kept while a player is offline.
+     * @param persist    Whether cooldowns survive a relog.
+     */
+    public CooldownManager(final PlayerDataService playerData, final boolean persist) {
+        this.playerData = playerData;
+        this.persist = persist;
+    }
+
+    /**
+     * Starts the tick clock cooldowns are measured against.
+     */
+    public void start(final Plugin plugin) {
+        if (clockTask == null)
+            clockTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduled -> currentTick++, 1L, 1L);
+    }
+
+    public void shutdown() {
+        if (clockTask != null) {
+            clockTask.cancel();
+            clockTask = null;
+        }
+    }
+
+    /**
+     * Returns true if the trait is still cooling down for the player.
+     */
+    public boolean isOnCooldown(final Player player, final StarboundTrait trait) {
+        return getRemainingTicks(player.getUniqueId(), trait) > 0L;
+    }
+
+    /**
+     * Returns how many ticks are left on the cooldown, or 0 if there is none.
+     */
+    public long getRemainingTicks(final UUID player, final StarboundTrait trait) {
+        final long[] playerExpiries = expiries.get(player);
+        if (playerExpiries == null)
+            return 0L;
+
+        return Math.max(0L, playerExpiries[trait.ordinal()] - currentTick);
+    }
+
+    /**
+     * Starts a cooldown for the trait.
+     *
+     * @param player The player.
+     * @param trait  The trait to put on cooldown.
+     * @param ticks  How long the cooldown lasts, in ticks.
+     */
+    public void setCooldown(final Player player, final StarboundTrait trait, final long ticks) {
+        expiries.computeIfAbsent(player.getUniqueId(), uuid -> new long[StarboundTrait.values().length])[trait.ordinal()] = currentTick + ticks;
+    }
+
+    /**
+     * Restores cooldowns saved when the player last logged out. Runs after player data is attached.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onJoin(final PlayerJoinEvent event) {
+        if (!persist)
+            return;
+
+        final PlayerData data = playerData.get(event.getPlayer().getUniqueId());
+        if (data == null || data.getCooldowns().isEmpty())
+            return;
+
+        for (final StarboundTrait trait : StarboundTrait.values()) {
+            final long remaining = data.getCooldowns().getOrDefault(trait.name(), 0L);
+            if (remaining > 0L)
+                setCooldown(event.getPlayer(), trait, remaining);
+        }
+    }
+
+    /**
+     * Drops all of the player's cooldowns at once, saving what's left of them first if enabled.
+     * Runs before player data is unloaded at MONITOR.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    private void onQuit(final PlayerQuitEvent event) {
+        final UUID uniqueId = event.getPlayer().getUniqueId();
+        final long[] playerExpiries = expiries.remove(uniqueId);
+
+        if (!persist)
+            return;
+
+        final PlayerData data = playerData.get(uniqueId);
+        if (data == null)
+            return;
+
+        final Map<String, Long> remaining = Maps.newHashMap();
+        if (playerExpiries != null) {
+            final long now = currentTick;
+            for (final StarboundTrait trait : StarboundTrait.values()) {
+                final long left = playerExpiries[trait.ordinal()] - now;
+                if (left > 0L)
+                    remaining.put(trait.name(), left);
+            }
+        }
+        data.setCooldowns(remaining);
+    }
+}
@@ -0,0 +1,180 @@
+package me.friedwingis.plugin.starforging.managers;
+
+import me.friedwingis.plugin.starforging.scheduler.WorkPriority;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.storage.PlayerData;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+import me.friedwingis.plugin.starforging.utils.Chat;
+import me.friedwingis.plugin.starforging.utils.Constants;
+import me.friedwingis.plugin.starforging.utils.MessageTemplate;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Collects Stardust drops per player and delivers them once per tick window,
+ * as a single addItem and a single summary message.
+ *
+ * Drops are queued from whichever region thread the crop was broken on. At the end of each
+ * window every player with pending drops gets one delivery task on the {@link WorkScheduler}.
+ * A delivery takes whatever is pending when it runs, so if the scheduler falls behind, later
+ * windows simply fold into the delivery that's already queued.
+ */
+public class DustDeliveryService implements Listener {
+
+    private static final MessageTemplate DUST_DISCOVERED = Chat.template(
+            Chat.PRAISE + "You discovered.. <amount>x <gradient:#e0e0e0:#ffffff><b>Star Dust", "amount");
+    private static final MessageTemplate DUST_LOST = Chat.template(
+            Chat.WARN + "Unable to collect <amount>x Stardust! There is no space within your inventory.", "amount");
+
+    private final WorkScheduler scheduler;
+    private final StardustWallet wallet;
+    private final PlayerDataService playerData;
+    private final int windowTicks;
+    private final Map<UUID, PendingDust> pending = new ConcurrentHashMap<>();
+
+    private boolean started;
+
+    /**
+     * @param scheduler   The scheduler deliveries are queued on.
+     * @param wallet      The wallet drops are credited to when wallet mode is enabled.
+     * @param playerData  Where the Stardust each player collects is tallied.
+     * @param windowTicks How many ticks drops are collected for before being delivered.
+     */
+    public DustDeliveryService(final WorkScheduler scheduler, final StardustWallet wallet, final PlayerDataService playerData, final int windowTicks) {
+        this.scheduler = scheduler;
+        this.wallet = wallet;
+        this.playerData = playerData;
+        this.windowTicks = Math.max(1, windowTicks);
+    }
+
+    /**
+     * Closes a delivery window every {@code windowTicks}.
+     */
+    public void start() {
+        if (!started) {
+            started = true;
+            scheduler.every(windowTicks, this::flushAll);
+        }
+    }
+
+    /**
+     * Delivers everything still pending. Schedulers no longer run once the plugin is
+     * disabling, so this delivers on the calling thread.
+     */
+    public void shutdown() {
+        for (final UUID uniqueId : pending.keySet()) {
+            final PendingDust dust = pending.remove(uniqueId);
+            final Player player = Bukkit.getPlayer(uniqueId);
+            if (dust != null && player != null)
+                deliver(player, dust.amount);
+        }
+    }
+
+    /**
+     * Queues Stardust for a player, to be delivered at the end of the current window.
+     *
+     * @param player The player who found the Stardust.
+     * @param amount The amount found.
+     */
+    public void queue(final Player player, final int amount) {
+        // compute runs atomically per key, so a flush can never take the entry halfway through an add
+        pending.compute(player.getUniqueId(), (uuid, dust) -> {
+            final PendingDust updated = dust != null ? dust : new PendingDust();
+            updated.amount += amount;
+            return updated;
+        });
+    }
+
+    /**
+     * Queues a delivery for every player with pending Stardust.
+     */
+    public void flushAll() {
+        if (pending.isEmpty())
+            return;
+
+        for (final UUID uniqueId : pending.keySet()) {
+            final Player player = Bukkit.getPlayer(uniqueId);
+            if (player == null) {
+                pending.remove(uniqueId);
+                continue;
+            }
+
+            // Tied to the player, since inventories may only be touched by the thread that owns them
+            scheduler.submit(WorkPriority.HIGH, new DeliveryKey(uniqueId), player, () -> deliverPending(player));
+        }
+    }
+
+    // Runs before player data is unloaded at MONITOR, so the final delivery is saved with it
+    @EventHandler(priority = EventPriority.HIGHEST)
+    private void onQuit(final PlayerQuitEvent event) {
+        // Deliver before the inventory is saved, so nothing found in the last window is lost
+        final PendingDust dust = pending.remove(event.getPlayer().getUniqueId());
+        if (dust != null)
+            deliver(event.getPlayer(), dust.amount);
+    }
+
+    private void deliverPending(final Player player) {
+        final PendingDust dust = pending.remove(player.getUniqueId());
+        if (dust != null && player.isOnline())
+            deliver(player, dust.amount);
+    }
+
+    /**
+     * Credits the Stardust to the player's wallet, or adds it to their inventory in one go,
+     * and sends a single summary message.
+     */
+    private void deliver(final Player player, final int amount) {
+        if (amount <= 0)
+            return;
+
+        if (wallet.isEnabled()) {
+            wallet.deposit(player.getUniqueId(), amount); // A wallet is never full
+            recordCollected(player, amount);
+            player.sendMessage(DUST_DISCOVERED.render(amount));
+            return;
+        }
+
+        // addItem merges into existing stacks and returns whatever didn't fit
+        int lost = 0;
+        for (final ItemStack leftover : player.getInventory().addItem(Constants.stardust().asQuantity(amount)).values())
+            lost += leftover.getAmount();
+
+        final int delivered = amount - lost;
+        if (delivered > 0) {
+            recordCollected(player, delivered);
+            player.sendMessage(DUST_DISCOVERED.render(delivered));
+        }
+        if (lost > 0)
+            player.sendMessage(DUST_LOST.render(lost));
+    }
+
+    private void recordCollected(final Player player, final int amount) {
+        final PlayerData data = playerData.get(player.getUniqueId());
+        if (data != null)
+            data.addDustCollected(amount);
+    }
+
+    // Coalesces deliveries queued for the same player
+    private record DeliveryKey(UUID uniqueId) {
+    }
+
+    /**
+     * Stardust found by a player during the current window.
+     */
+    private static final class PendingDust {
+        private int amount;
+    }
+}
@@ -0,0 +1,217 @@
+package me.friedwingis.plugin.starforging.managers;
+
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+import lombok.RequiredArgsConstructor;
+import me.friedwingis.plugin.starforging.scheduler.WorkPriority;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.struct.StarboundTrait;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.enchantments.EnchantmentTarget;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Keeps a snapshot of the Starbound traits each online player has equipped.
+ * Snapshots are only rebuilt when armor actually changes, so combat handlers
+ * can check for a trait with a single bit test instead of scanning armor.
+ *
+ * A snapshot is only rebuilt on its player's own thread, but may be read from others.
+ * Pieces still in the old trait format are read as-is and rewritten later, as normal
+ * priority work on the {@link WorkScheduler}.
+ */
+@RequiredArgsConstructor
+public class EquippedTraitCache implements Listener {
+
+    // Number of armor slots tracked per player (head, chest, legs, feet)
+    private static final int ARMOR_SLOTS = 4;
+
+    private final WorkScheduler scheduler;
+    private final Map<UUID, EquippedTraits> snapshots = new ConcurrentHashMap<>();
+    private final List<MaskListener> maskListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Adds a listener told whenever a player's equipped traits change, including when they
+     * first join (from nothing) and when they quit (to nothing).
+     */
+    public void addMaskListener(final MaskListener listener) {
+        maskListeners.add(listener);
+    }
+
+    /**
+     * Checks if a player has a specific StarboundTrait equipped on their armor.
+     *
+     * @param player The player to check.
+     * @param trait  The trait to check for.
+     * @return True if the player has the trait, false otherwise.
+     */
+    public boolean hasTrait(final Player player, final StarboundTrait trait) {
+        return (getMask(player) & trait.mask()) != 0L;
+    }
+
+    /**
+     * Returns the bitmask of every trait the player has equipped, or 0 if none.
+     */
+    public long getMask(final Player player) {
+        final EquippedTraits snapshot = snapshots.get(player.getUniqueId());
+        return snapshot == null ? 0L : snapshot.mask;
+    }
+
+    /**
+     * Rebuilds the snapshot of every online player, used when the plugin is (re)enabled.
+     */
+    public void rebuildAll() {
+        for (final Player player : Bukkit.getOnlinePlayers())
+            rebuild(player);
+    }
+
+    /**
+     * Rebuilds a player's snapshot from their current armor contents.
+     */
+    public void rebuild(final Player player) {
+        final EquippedTraits snapshot = snapshots.computeIfAbsent(player.getUniqueId(), uuid -> new EquippedTraits());
+        final ItemStack[] armor = player.getInventory().getArmorContents();
+
+        // Armor contents are ordered feet -> head, slot indexes are ordered head -> feet
+        boolean legacy = false;
+        for (int i = 0; i < armor.length && i < ARMOR_SLOTS; i++) {
+            legacy |= StarboundTrait.needsMigration(armor[i]);
+            snapshot.slots[ARMOR_SLOTS - 1 - i] = resolveTrait(armor[i]);
+        }
+
+        recalculate(snapshot);
+
+        if (legacy)
+            queueMigration(player);
+    }
+
+    /**
+     * Queues a rewrite of the player's armor onto the current trait format.
+     */
+    private void queueMigration(final Player player) {
+        scheduler.submit(WorkPriority.NORMAL, new MigrationKey(player.getUniqueId()), player, () -> migrateArmor(player));
+    }
+
+    private void migrateArmor(final Player player) {
+        if (!player.isOnline())
+            return;
+
+        final ItemStack[] armor = player.getInventory().getArmorContents();
+        boolean migrated = false;
+        for (final ItemStack piece : armor)
+            migrated |= StarboundTrait.migrate(piece);
+
+        // Fires armor change events, which bring the snapshot up to date
+        if (migrated)
+            player.getInventory().setArmorContents(armor);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onArmorChange(final PlayerArmorChangeEvent event) {
+        final EquippedTraits snapshot = snapshots.computeIfAbsent(event.getPlayer().getUniqueId(), uuid -> new EquippedTraits());
+
+        snapshot.slots[event.getSlotType().ordinal()] = resolveTrait(event.getNewItem());
+        recalculate(snapshot);
+
+        // The event only carries a copy, so old-format pieces are migrated through the inventory
+        if (StarboundTrait.needsMigration(event.getNewItem()))
+            queueMigration(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onJoin(final PlayerJoinEvent event) {
+        rebuild(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onRespawn(final PlayerRespawnEvent event) {
+        rebuild(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onQuit(final PlayerQuitEvent event) {
+        final EquippedTraits snapshot = snapshots.remove(event.getPlayer().getUniqueId());
+        if (snapshot != null)
+            fireMaskChange(snapshot.mask, 0L);
+    }
+
+    /**
+     * Recalculates a snapshot's mask and tells the mask listeners if it changed.
+     */
+    private void recalculate(final EquippedTraits snapshot) {
+        final long previous = snapshot.mask;
+        snapshot.recalculate();
+        fireMaskChange(previous, snapshot.mask);
+    }
+
+    private void fireMaskChange(final long previous, final long current) {
+        if (previous == current)
+            return;
+
+        for (final MaskListener listener : maskListeners)
+            listener.onMaskChange(previous, current);
+    }
+
+    /**
+     * Resolves the trait on a single armor piece, or null if the piece can't carry one.
+     */
+    private StarboundTrait resolveTrait(final ItemStack item) {
+        if (item == null || item.getType().isAir())
+            return null;
+
+        final Material material = item.getType();
+        if (!EnchantmentTarget.ARMOR.includes(material))
+            return null;
+
+        final String name = material.name();
+        if (!name.contains("DIAMOND") && !name.contains("NETHERITE"))
+            return null;
+
+        return StarboundTrait.getTrait(item);
+    }
+
+    /**
+     * Told whenever a single player's equipped trait mask changes.
+     */
+    @FunctionalInterface
+    public interface MaskListener {
+        void onMaskChange(long previous, long current);
+    }
+
+    // Coalesces migrations queued for the same player
+    private record MigrationKey(UUID uniqueId) {
+    }
+
+    /**
+     * The traits on each armor slot of a single player, folded into one bitmask.
+     */
+    private static final class EquippedTraits {
+        private final StarboundTrait[] slots = new StarboundTrait[ARMOR_SLOTS];
+        private volatile long mask; // Published whole, so readers never see a torn update
+
+        private void recalculate() {
+            long mask = 0L;
+            for (final StarboundTrait trait : slots) {
+                if (trait != null)
+                    mask |= trait.mask();
+            }
+            this.mask = mask;
+        }
+    }
+}
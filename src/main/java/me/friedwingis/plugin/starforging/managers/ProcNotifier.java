@@ -0,0 +1,221 @@
+package me.friedwingis.plugin.starforging.managers;
+
+import lombok.Getter;
+import me.friedwingis.plugin.starforging.combat.ProcNotification;
+import me.friedwingis.plugin.starforging.scheduler.WorkPriority;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import me.friedwingis.plugin.starforging.storage.PlayerData;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+import me.friedwingis.plugin.starforging.utils.Chat;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Tells players when their traits proc. Instead of a chat message per proc, procs are counted
+ * per player and shown as one action bar summary, e.g. "Void Step teleport ×3 | Solar Wrath blinded",
+ * at most once every {@code minIntervalTicks} per player. A long fight then costs one small packet
+ * every few ticks, and no MiniMessage parsing at all since every label is formatted up front.
+ *
+ * Procs are counted on whichever region thread the hit happened on. Summaries are sent from the
+ * {@link WorkScheduler}, tied to the player.
+ */
+public class ProcNotifier implements Listener {
+
+    /**
+     * How procs are shown.
+     */
+    public enum Mode {
+        // One combined summary in the action bar
+        ACTION_BAR,
+        // A chat message per proc
+        CHAT,
+        // Nothing at all
+        OFF
+    }
+
+    private static final Component SEPARATOR = Chat.format("<dark_gray> | ");
+
+    private final WorkScheduler scheduler;
+    private final PlayerDataService playerData;
+    @Getter private final Mode mode;
+    private final int minIntervalTicks;
+    private final Map<UUID, PendingProcs> pending = new ConcurrentHashMap<>();
+
+    private volatile long tick;
+    private boolean started;
+
+    /**
+     * @param scheduler        The scheduler summaries are sent from.
+     * @param playerData       Where each player's choice to hide notifications is kept.
+     * @param mode             How procs are shown.
+     * @param minIntervalTicks The fewest ticks between two summaries to the same player.
+     */
+    public ProcNotifier(final WorkScheduler scheduler, final PlayerDataService playerData, final Mode mode, final int minIntervalTicks) {
+        this.scheduler = scheduler;
+        this.playerData = playerData;
+        this.mode = mode;
+        this.minIntervalTicks = Math.max(1, minIntervalTicks);
+    }
+
+    /**
+     * Checks for summaries to send every tick.
+     */
+    public void start() {
+        if (!started && mode == Mode.ACTION_BAR) {
+            started = true;
+            scheduler.every(1L, this::flushAll);
+        }
+    }
+
+    /**
+     * Tells a player one of their traits procced, unless they've turned notifications off.
+     */
+    public void notify(final Player player, final ProcNotification notification) {
+        if (mode == Mode.OFF || !isEnabled(player))
+            return;
+
+        if (mode == Mode.CHAT) {
+            player.sendMessage(notification.getMessage());
+            return;
+        }
+
+        pending.computeIfAbsent(player.getUniqueId(), uuid -> new PendingProcs()).add(notification);
+    }
+
+    /**
+     * Returns true if the player hasn't turned proc notifications off.
+     */
+    public boolean isEnabled(final Player player) {
+        final PlayerData data = playerData.get(player.getUniqueId());
+        return data == null || data.isProcNotifications();
+    }
+
+    /**
+     * Flips whether a player is told about their procs.
+     *
+     * @return True if notifications are now on.
+     */
+    public boolean toggle(final Player player) {
+        final PlayerData data = playerData.get(player.getUniqueId());
+        if (data == null)
+            return true; // Still loading, nothing to save the choice to yet
+
+        final boolean enabled = !data.isProcNotifications();
+        data.setProcNotifications(enabled);
+        if (!enabled)
+            pending.remove(player.getUniqueId());
+        return enabled;
+    }
+
+    /**
+     * Queues a summary for every player with unshown procs whose interval has passed.
+     */
+    public void flushAll() {
+        final long now = ++tick;
+        if (pending.isEmpty())
+            return;
+
+        for (final Map.Entry<UUID, PendingProcs> entry : pending.entrySet()) {
+            final PendingProcs procs = entry.getValue();
+            if (procs.total == 0 || now - procs.lastSentTick < minIntervalTicks)
+                continue;
+
+            final Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null) {
+                pending.remove(entry.getKey());
+                continue;
+            }
+
+            procs.lastSentTick = now;
+            // Tied to the player, so the packet is sent from the thread that owns them
+            scheduler.submit(WorkPriority.HIGH, new NotifyKey(entry.getKey()), player, () -> send(player, procs));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onQuit(final PlayerQuitEvent event) {
+        pending.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void send(final Player player, final PendingProcs procs) {
+        final Component summary = procs.take();
+        if (summary != null && player.isOnline())
+            player.sendActionBar(summary);
+    }
+
+    // Coalesces summaries queued for the same player
+    private record NotifyKey(UUID uniqueId) {
+    }
+
+    /**
+     * Procs a player hasn't been shown yet, counted per notification in the order they first procced.
+     * Notifications come from the config, so they're matched by identity; a player only ever has a
+     * handful pending, which a linear search handles faster than a map.
+     */
+    private static final class PendingProcs {
+        private ProcNotification[] notifications = new ProcNotification[4];
+        private int[] counts = new int[4];
+        private int size;
+        private volatile int total;
+        private volatile long lastSentTick = Long.MIN_VALUE / 2;
+
+        private synchronized void add(final ProcNotification notification) {
+            total++;
+            for (int i = 0; i < size; i++) {
+                if (notifications[i] == notification) {
+                    counts[i]++;
+                    return;
+                }
+            }
+
+            if (size == notifications.length) {
+                notifications = Arrays.copyOf(notifications, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            notifications[size] = notification;
+            counts[size++] = 1;
+        }
+
+        /**
+         * Builds the summary of everything counted so far and resets the counts.
+         *
+         * @return The summary, or null if nothing procced.
+         */
+        private synchronized Component take() {
+            if (total == 0)
+                return null;
+
+            Component summary = Component.empty();
+            boolean first = true;
+            for (int i = 0; i < size; i++) {
+                if (!first)
+                    summary = summary.append(SEPARATOR);
+                summary = summary.append(notifications[i].getLabel());
+                if (counts[i] > 1)
+                    summary = summary.append(Component.text(" ×" + counts[i], NamedTextColor.WHITE));
+
+                notifications[i] = null; // Don't keep a reloaded-away notification alive
+                first = false;
+            }
+
+            size = 0;
+            total = 0;
+            return summary;
+        }
+    }
+}
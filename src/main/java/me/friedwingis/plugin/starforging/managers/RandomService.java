@@ -0,0 +1,153 @@
+package me.friedwingis.plugin.starforging.managers;
+
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The source of every random decision in StarForging: crop drops, trait procs and forge rolls.
+ *
+ * By default each thread rolls from its own {@link SplittableRandom}, split off a single root,
+ * so rolls on different region threads never share a seed. In seeded mode each player instead
+ * gets their own stream, derived from the configured seed and their UUID. The same seed then
+ * always produces the same rolls for the same player, which lets tests and audits replay a
+ * player's roll sequence with {@link #replay(UUID, int)}.
+ */
+public class RandomService implements Listener {
+
+    // Stream used for rolls no player made, e.g. bulk forges started from the console
+    private static final UUID SERVER = new UUID(0L, 0L);
+
+    @Getter private final boolean seeded;
+    @Getter private final long seed; // Only meaningful in seeded mode
+
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> local;
+    private final Map<UUID, PlayerStream> streams = new ConcurrentHashMap<>();
+
+    private RandomService(final boolean seeded, final long seed) {
+        this.seeded = seeded;
+        this.seed = seed;
+        this.root = seeded ? new SplittableRandom(seed) : new SplittableRandom();
+        this.local = ThreadLocal.withInitial(this::split);
+    }
+
+    /**
+     * Creates a service that rolls from fresh, unpredictable thread-local streams.
+     */
+    public static RandomService unseeded() {
+        return new RandomService(false, 0L);
+    }
+
+    /**
+     * Creates a service that gives every player a stream derived from the seed.
+     */
+    public static RandomService seeded(final long seed) {
+        return new RandomService(true, seed);
+    }
+
+    /**
+     * Returns a random value in [0, 1) for a roll made by or on behalf of a player.
+     */
+    public double nextDouble(final Player player) {
+        return seeded ? stream(player.getUniqueId()).nextDouble() : local.get().nextDouble();
+    }
+
+    /**
+     * Returns a random value in [0, 1) for a roll that doesn't belong to any player.
+     */
+    public double nextDouble() {
+        return seeded ? stream(SERVER).nextDouble() : local.get().nextDouble();
+    }
+
+    /**
+     * Returns true with the given chance, rolled on the player's behalf.
+     *
+     * @param chance A chance from 0.0 (never) to 1.0 (always).
+     */
+    public boolean chance(final Player player, final double chance) {
+        return nextDouble(player) < chance;
+    }
+
+    /**
+     * Returns how many rolls a player has made since they joined, or 0 outside seeded mode.
+     */
+    public long getRolls(final UUID uniqueId) {
+        final PlayerStream stream = streams.get(uniqueId);
+        return stream == null ? 0L : stream.rolls;
+    }
+
+    /**
+     * Recomputes the first rolls of a player's stream, in the order they were made.
+     *
+     * @param uniqueId The player whose rolls to replay.
+     * @param count    How many rolls to replay.
+     * @return The rolls, each in [0, 1).
+     * @throws IllegalStateException If the service isn't seeded, so there is nothing to replay.
+     */
+    public double[] replay(final UUID uniqueId, final int count) {
+        if (!seeded)
+            throw new IllegalStateException("Rolls can only be replayed in seeded mode.");
+
+        final SplittableRandom random = new SplittableRandom(seedFor(uniqueId));
+        final double[] rolls = new double[Math.max(0, count)];
+        for (int i = 0; i < rolls.length; i++)
+            rolls[i] = random.nextDouble();
+        return rolls;
+    }
+
+    // A player's stream starts over with every session, so a replay covers a single session
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onQuit(final PlayerQuitEvent event) {
+        streams.remove(event.getPlayer().getUniqueId());
+    }
+
+    private PlayerStream stream(final UUID uniqueId) {
+        return streams.computeIfAbsent(uniqueId, uuid -> new PlayerStream(new SplittableRandom(seedFor(uuid))));
+    }
+
+    /**
+     * Derives the seed of a player's stream. SplittableRandom mixes its seed, so nearby
+     * UUIDs still get unrelated streams.
+     */
+    private long seedFor(final UUID uniqueId) {
+        return seed ^ (uniqueId.getMostSignificantBits() * 0x9E3779B97F4A7C15L) ^ uniqueId.getLeastSignificantBits();
+    }
+
+    private SplittableRandom split() {
+        // Splitting changes the root, and threads start their streams concurrently
+        synchronized (root) {
+            return root.split();
+        }
+    }
+
+    /**
+     * One player's seeded stream. A player's rolls almost always come from their own region
+     * thread, so the lock is uncontended, it only guards the odd roll made from elsewhere.
+     */
+    private static final class PlayerStream {
+        private final SplittableRandom random;
+        private volatile long rolls;
+
+        private PlayerStream(final SplittableRandom random) {
+            this.random = random;
+        }
+
+        private synchronized double nextDouble() {
+            rolls++;
+            return random.nextDouble();
+        }
+    }
+}
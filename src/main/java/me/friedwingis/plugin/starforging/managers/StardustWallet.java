@@ -0,0 +1,65 @@
+package me.friedwingis.plugin.starforging.managers;
+
+import lombok.Getter;
+import me.friedwingis.plugin.starforging.storage.PlayerData;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
+
+import java.util.UUID;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Optional virtual Stardust balance per player. When enabled, drops are credited here
+ * and the Celestial Forge debits it directly, so no Stardust items are involved.
+ * Balances are stored with the rest of the player's data.
+ */
+public class StardustWallet {
+
+    @Getter private final boolean enabled;
+    private final PlayerDataService playerData;
+
+    public StardustWallet(final boolean enabled, final PlayerDataService playerData) {
+        this.enabled = enabled;
+        this.playerData = playerData;
+    }
+
+    /**
+     * Returns the player's current balance, or 0 if they aren't online.
+     */
+    public long getBalance(final UUID player) {
+        final PlayerData data = playerData.get(player);
+        return data == null ? 0L : data.getWalletBalance();
+    }
+
+    /**
+     * Returns true if the player's stored balance has loaded, so a deposit can't be lost to a failed load.
+     */
+    public boolean isLoaded(final UUID player) {
+        return playerData.isLoaded(player);
+    }
+
+    /**
+     * Adds Stardust to an online player's balance.
+     *
+     * @return The new balance.
+     */
+    public long deposit(final UUID player, final long amount) {
+        final PlayerData data = playerData.get(player);
+        if (data == null)
+            return 0L;
+
+        return data.addWalletBalance(Math.max(0L, amount));
+    }
+
+    /**
+     * Removes Stardust from the player's balance if they have enough.
+     *
+     * @return True if the balance covered the amount and was debited, false otherwise.
+     */
+    public boolean withdraw(final UUID player, final long amount) {
+        final PlayerData data = playerData.get(player);
+        return data != null && data.withdrawWalletBalance(amount);
+    }
+}
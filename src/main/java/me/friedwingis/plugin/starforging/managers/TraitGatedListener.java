@@ -0,0 +1,69 @@
+package me.friedwingis.plugin.starforging.managers;
+
+import lombok.Getter;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Keeps a listener registered only while at least one online player has one of its traits
+ * equipped. While nobody does, the listener is off the event's handler list entirely, so
+ * the events it listens to (e.g. every damage event on the server) cost this plugin nothing.
+ *
+ * Counts come from {@link EquippedTraitCache} mask changes, which arrive on whichever region
+ * thread owns the player, so every transition is made under this gate's lock.
+ */
+public class TraitGatedListener implements EquippedTraitCache.MaskListener {
+
+    private final Plugin plugin;
+    private final Listener listener;
+    private final long traitMask;
+
+    @Getter private int population; // Online players with at least one of the traits
+    @Getter private boolean registered;
+
+    /**
+     * @param plugin    The plugin the listener is registered under.
+     * @param listener  The listener to register and unregister.
+     * @param traitMask The traits the listener cares about.
+     */
+    public TraitGatedListener(final Plugin plugin, final Listener listener, final long traitMask) {
+        this.plugin = plugin;
+        this.listener = listener;
+        this.traitMask = traitMask;
+    }
+
+    @Override
+    public void onMaskChange(final long previous, final long current) {
+        final boolean had = (previous & traitMask) != 0L, has = (current & traitMask) != 0L;
+        if (had == has)
+            return;
+
+        synchronized (this) {
+            population += has ? 1 : -1;
+
+            if (population > 0 && !registered) {
+                plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+                registered = true;
+            } else if (population <= 0 && registered) {
+                HandlerList.unregisterAll(listener);
+                registered = false;
+            }
+        }
+    }
+
+    /**
+     * Unregisters the listener, used on disable.
+     */
+    public synchronized void shutdown() {
+        if (registered) {
+            HandlerList.unregisterAll(listener);
+            registered = false;
+        }
+        population = 0;
+    }
+}
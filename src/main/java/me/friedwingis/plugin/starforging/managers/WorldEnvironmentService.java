@@ -0,0 +1,126 @@
+package me.friedwingis.plugin.starforging.managers;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The time of day and weather of every world, read once per tick instead of once per hit.
+ * Trait handlers get an immutable {@link Environment} and read its flags as plain fields.
+ *
+ * There are only eight possible environments, all built up front, and the loaded worlds are kept
+ * in an array updated on world load and unload, so a refresh never allocates.
+ * Time and weather belong to the global region, so that's where the refresh runs.
+ */
+public class WorldEnvironmentService implements Listener {
+
+    private final Map<UUID, Environment> environments = new ConcurrentHashMap<>();
+    // Replaced whole on world load and unload, since Bukkit.getWorlds() copies the list on every call
+    private volatile World[] worlds = new World[0];
+    private ScheduledTask task;
+
+    /**
+     * Starts refreshing every world's environment each tick.
+     */
+    public void start(final Plugin plugin) {
+        this.worlds = Bukkit.getWorlds().toArray(World[]::new);
+        refresh();
+        if (task == null)
+            task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduled -> refresh(), 1L, 1L);
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Returns the world's environment as of the start of this tick. Worlds loaded since the
+     * last refresh are read directly, once.
+     */
+    public Environment get(final World world) {
+        final Environment environment = environments.get(world.getUID());
+        return environment != null ? environment : Environment.of(world);
+    }
+
+    /**
+     * Re-reads the environment of every loaded world. Runs every tick once started.
+     */
+    public void refresh() {
+        for (final World world : worlds)
+            environments.put(world.getUID(), Environment.of(world));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private synchronized void onWorldLoad(final WorldLoadEvent event) {
+        final World world = event.getWorld();
+        for (final World loaded : worlds) {
+            if (loaded.getUID().equals(world.getUID()))
+                return;
+        }
+
+        final World[] updated = Arrays.copyOf(worlds, worlds.length + 1);
+        updated[worlds.length] = world;
+        this.worlds = updated;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private synchronized void onWorldUnload(final WorldUnloadEvent event) {
+        final UUID uniqueId = event.getWorld().getUID();
+        this.worlds = Arrays.stream(worlds).filter(world -> !world.getUID().equals(uniqueId)).toArray(World[]::new);
+        environments.remove(uniqueId);
+    }
+
+    /**
+     * A world's time of day and weather, as flags.
+     */
+    public static final class Environment {
+
+        private static final int DAY = 1, HIGH_NOON = 1 << 1, CLEAR = 1 << 2;
+        private static final Environment[] ALL = new Environment[8];
+
+        static {
+            for (int flags = 0; flags < ALL.length; flags++)
+                ALL[flags] = new Environment(flags);
+        }
+
+        public final boolean day;      // Between sunrise and sunset
+        public final boolean highNoon; // The hour around noon
+        public final boolean clear;    // An overworld with no storm
+
+        private Environment(final int flags) {
+            this.day = (flags & DAY) != 0;
+            this.highNoon = (flags & HIGH_NOON) != 0;
+            this.clear = (flags & CLEAR) != 0;
+        }
+
+        private static Environment of(final World world) {
+            final long time = world.getTime();
+            int flags = 0;
+            if (time >= 0 && time < 12300)
+                flags |= DAY;
+            if (time >= 6000 && time <= 7000)
+                flags |= HIGH_NOON;
+            if (world.getEnvironment() == World.Environment.NORMAL && !world.hasStorm())
+                flags |= CLEAR;
+            return ALL[flags];
+        }
+    }
+}
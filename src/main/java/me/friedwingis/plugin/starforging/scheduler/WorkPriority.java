@@ -0,0 +1,18 @@
+package me.friedwingis.plugin.starforging.scheduler;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Queues of the {@link WorkScheduler}, drained in declaration order. Lower priorities
+ * only run once every higher queue is empty, so they are the first to wait under load.
+ */
+public enum WorkPriority {
+    // Work players notice right away (Stardust deliveries)
+    HIGH,
+    // Work that should happen soon but isn't visible (item migration)
+    NORMAL,
+    // Work that only has to happen eventually (persistence flushes)
+    LOW
+}
@@ -0,0 +1,249 @@
+package me.friedwingis.plugin.starforging.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The single place StarForging defers work to. Tasks wait in one queue per {@link WorkPriority}
+ * and are drained once a tick, highest priority first, until the tick's time budget is spent;
+ * whatever is left waits for the next tick. A task submitted under a key that is already
+ * queued is coalesced into the queued one, so a backlog never does the same work twice.
+ *
+ * Tasks can be tied to an entity. On Paper these run inline like any other task, on Folia
+ * they're handed to the entity's own scheduler when it lives on another region.
+ */
+public class WorkScheduler {
+
+    private static final WorkPriority[] PRIORITIES = WorkPriority.values();
+    // A tick this far apart from the last one means the server is already behind
+    private static final long LAGGING_TICK_NANOS = 55_000_000L;
+
+    private final Plugin plugin;
+    @Getter private final long budgetNanos;
+
+    @SuppressWarnings("unchecked")
+    private final Queue<Task>[] queues = new Queue[PRIORITIES.length];
+    private final AtomicInteger[] queued = new AtomicInteger[PRIORITIES.length];
+    private final Map<Object, Task> pendingByKey = new ConcurrentHashMap<>();
+    private final List<Periodic> periodics = new CopyOnWriteArrayList<>();
+
+    // Backpressure metrics
+    private final LongAdder submitted = new LongAdder(), coalesced = new LongAdder(), executed = new LongAdder();
+    @Getter private volatile long deferredTicks;   // Ticks that ended with work still queued
+    @Getter private volatile long laggingTicks;    // Ticks run on a reduced budget because the server was behind
+    @Getter private volatile int maxQueued;        // Largest total backlog seen
+    @Getter private volatile long maxWaitNanos;    // Longest a task has waited before running
+    @Getter private volatile long lastTickNanos;   // Time spent draining on the last tick
+
+    private ScheduledTask task;
+    private long tick;
+    private long lastTickStart;
+
+    /**
+     * @param plugin       The plugin that owns the drain task.
+     * @param budgetMillis How long the scheduler may run tasks per tick.
+     */
+    public WorkScheduler(final Plugin plugin, final double budgetMillis) {
+        this.plugin = plugin;
+        this.budgetNanos = (long) (Math.max(0.1, budgetMillis) * 1_000_000L);
+
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+            queued[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Starts draining the queues every tick.
+     */
+    public void start() {
+        if (task == null)
+            task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduled -> tick(), 1L, 1L);
+    }
+
+    /**
+     * Stops the drain task and runs everything still queued, ignoring the budget.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        drainAll();
+    }
+
+    /**
+     * Queues a task.
+     *
+     * @param priority The queue to add it to.
+     * @param key      Identifies duplicate work, or null to never coalesce.
+     * @param runnable The work.
+     * @return False if an identical task was already queued and this one was dropped.
+     */
+    public boolean submit(final WorkPriority priority, final Object key, final Runnable runnable) {
+        return submit(priority, key, null, runnable);
+    }
+
+    /**
+     * Queues a task that has to run on the thread owning an entity.
+     *
+     * @param priority The queue to add it to.
+     * @param key      Identifies duplicate work, or null to never coalesce.
+     * @param owner    The entity the task touches, or null if it touches none.
+     * @param runnable The work.
+     * @return False if an identical task was already queued and this one was dropped.
+     */
+    public boolean submit(final WorkPriority priority, final Object key, final Entity owner, final Runnable runnable) {
+        final Task task = new Task(key, owner, runnable, System.nanoTime());
+        submitted.increment();
+
+        if (key != null && pendingByKey.putIfAbsent(key, task) != null) {
+            coalesced.increment();
+            return false;
+        }
+
+        queues[priority.ordinal()].add(task);
+        queued[priority.ordinal()].incrementAndGet();
+
+        final int total = totalQueued();
+        if (total > maxQueued)
+            maxQueued = total;
+        return true;
+    }
+
+    /**
+     * Runs an action every {@code periodTicks}, at the start of the scheduler's tick. Meant for
+     * cheap actions that decide what to submit, not for the work itself.
+     */
+    public void every(final long periodTicks, final Runnable action) {
+        periodics.add(new Periodic(Math.max(1L, periodTicks), action));
+    }
+
+    /**
+     * Returns how many tasks are waiting in a queue.
+     */
+    public int getQueued(final WorkPriority priority) {
+        return queued[priority.ordinal()].get();
+    }
+
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    /**
+     * Runs every queued task now, on the calling thread, ignoring the budget.
+     */
+    public void drainAll() {
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            Task next;
+            while ((next = poll(i)) != null)
+                execute(next, true);
+        }
+    }
+
+    private void tick() {
+        final long start = System.nanoTime();
+
+        // Already behind schedule, so only do a quarter of the usual work
+        long budget = budgetNanos;
+        if (lastTickStart != 0L && start - lastTickStart > LAGGING_TICK_NANOS) {
+            budget /= 4;
+            laggingTicks++;
+        }
+        lastTickStart = start;
+
+        tick++;
+        for (final Periodic periodic : periodics) {
+            if (tick % periodic.periodTicks == 0L)
+                execute(periodic.action);
+        }
+
+        final long deadline = start + budget;
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            Task next;
+            while (System.nanoTime() < deadline && (next = poll(i)) != null)
+                execute(next, false);
+        }
+
+        if (totalQueued() > 0)
+            deferredTicks++;
+        lastTickNanos = System.nanoTime() - start;
+    }
+
+    private Task poll(final int priority) {
+        final Task next = queues[priority].poll();
+        if (next == null)
+            return null;
+
+        queued[priority].decrementAndGet();
+        // Free the key first, so work submitted while this runs is queued again rather than lost
+        if (next.key != null)
+            pendingByKey.remove(next.key, next);
+        return next;
+    }
+
+    private void execute(final Task task, final boolean inline) {
+        final long waited = System.nanoTime() - task.submittedAt;
+        if (waited > maxWaitNanos)
+            maxWaitNanos = waited;
+
+        if (task.owner != null && !inline && !Bukkit.isOwnedByCurrentRegion(task.owner)) {
+            // Another region owns the entity, so let it run there (retired entities simply drop the task)
+            task.owner.getScheduler().run(plugin, scheduled -> execute(task.runnable), null);
+            executed.increment();
+            return;
+        }
+
+        execute(task.runnable);
+        executed.increment();
+    }
+
+    private void execute(final Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (final Throwable t) {
+            plugin.getLogger().log(Level.SEVERE, "A scheduled StarForging task failed", t);
+        }
+    }
+
+    /**
+     * Returns the number of tasks queued across every priority.
+     */
+    public int totalQueued() {
+        int total = 0;
+        for (final AtomicInteger count : queued)
+            total += count.get();
+        return total;
+    }
+
+    private record Task(Object key, Entity owner, Runnable runnable, long submittedAt) {
+    }
+
+    private record Periodic(long periodTicks, Runnable action) {
+    }
+}
@@ -0,0 +1,41 @@
+package me.friedwingis.plugin.starforging.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * A single completed forge: when it happened, the armor piece and the trait it received.
+ */
+@Getter
+@AllArgsConstructor
+public final class ForgeRecord {
+    private final long timestamp;
+    private final String material;
+    private final String trait;
+
+    /**
+     * Encodes this record as a single line for storage.
+     */
+    String encode() {
+        return timestamp + ";" + material + ";" + trait;
+    }
+
+    /**
+     * Decodes a record written by {@link #encode()}, or returns null if the line is malformed.
+     */
+    static ForgeRecord decode(final String line) {
+        final String[] parts = line.split(";", 3);
+        if (parts.length != 3)
+            return null;
+
+        try {
+            return new ForgeRecord(Long.parseLong(parts[0]), parts[1], parts[2]);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+}
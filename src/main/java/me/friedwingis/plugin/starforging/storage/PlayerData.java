@@ -0,0 +1,183 @@
+package me.friedwingis.plugin.starforging.storage;
+
+import com.google.common.collect.Maps;
+import lombok.Getter;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Everything StarForging remembers about a player between sessions. Changes can come from
+ * several region threads (e.g. an admin crediting a wallet from another region), so every
+ * update and {@link #snapshot()} is synchronized. The storage thread only ever sees snapshots.
+ */
+public class PlayerData {
+
+    // Version of the file layout written by snapshot()
+    private static final int SCHEMA_VERSION = 1;
+    // Number of recent forges kept per player
+    private static final int MAX_HISTORY = 10;
+
+    @Getter private final UUID uniqueId;
+    @Getter private volatile long walletBalance;
+    @Getter private volatile long dustCollected;
+    @Getter private volatile long itemsForged;
+    private final Deque<ForgeRecord> forgeHistory = new ArrayDeque<>();
+    private volatile Map<String, Long> cooldowns = Collections.emptyMap(); // Remaining ticks per trait, saved on logout
+    @Getter private volatile boolean procNotifications = true; // Whether trait procs are announced to the player
+
+    @Getter private volatile boolean dirty; // Changed since the last snapshot
+
+    public PlayerData(final UUID uniqueId) {
+        this.uniqueId = uniqueId;
+    }
+
+    public synchronized void setWalletBalance(final long walletBalance) {
+        this.walletBalance = walletBalance;
+        this.dirty = true;
+    }
+
+    /**
+     * Adds to the wallet balance.
+     *
+     * @return The new balance.
+     */
+    public synchronized long addWalletBalance(final long amount) {
+        this.walletBalance += amount;
+        this.dirty = true;
+        return walletBalance;
+    }
+
+    /**
+     * Takes from the wallet balance if it covers the amount.
+     *
+     * @return True if the balance was debited.
+     */
+    public synchronized boolean withdrawWalletBalance(final long amount) {
+        if (walletBalance < amount)
+            return false;
+
+        this.walletBalance -= amount;
+        this.dirty = true;
+        return true;
+    }
+
+    public synchronized void addDustCollected(final long amount) {
+        this.dustCollected += amount;
+        this.dirty = true;
+    }
+
+    /**
+     * Returns the trait cooldowns saved when the player last logged out, as remaining ticks per trait.
+     */
+    public Map<String, Long> getCooldowns() {
+        return Collections.unmodifiableMap(cooldowns);
+    }
+
+    public synchronized void setCooldowns(final Map<String, Long> cooldowns) {
+        if (this.cooldowns.isEmpty() && cooldowns.isEmpty())
+            return; // Nothing to save, and nothing to clear
+
+        this.cooldowns = Maps.newHashMap(cooldowns);
+        this.dirty = true;
+    }
+
+    public synchronized void setProcNotifications(final boolean procNotifications) {
+        this.procNotifications = procNotifications;
+        this.dirty = true;
+    }
+
+    /**
+     * Records a completed forge, keeping only the most recent ones.
+     */
+    public synchronized void recordForge(final ForgeRecord record) {
+        this.itemsForged++;
+        this.forgeHistory.addFirst(record);
+        while (forgeHistory.size() > MAX_HISTORY)
+            forgeHistory.removeLast();
+        this.dirty = true;
+    }
+
+    /**
+     * Returns the most recent forges, newest first.
+     */
+    public synchronized Collection<ForgeRecord> getForgeHistory() {
+        return List.copyOf(forgeHistory);
+    }
+
+    /**
+     * Folds data loaded from disk into this object. Used when the player was already
+     * collecting Stardust before their stored data finished loading.
+     */
+    synchronized void merge(final PlayerData stored) {
+        this.walletBalance += stored.walletBalance;
+        this.dustCollected += stored.dustCollected;
+        this.itemsForged += stored.itemsForged;
+
+        for (final ForgeRecord record : stored.forgeHistory) {
+            if (forgeHistory.size() >= MAX_HISTORY)
+                break;
+            forgeHistory.addLast(record);
+        }
+
+        if (cooldowns.isEmpty())
+            this.cooldowns = stored.cooldowns;
+        this.procNotifications = stored.procNotifications;
+        this.dirty = true;
+    }
+
+    /**
+     * Copies the current state into a standalone config that can be written from another
+     * thread, and clears the dirty flag.
+     */
+    synchronized YamlConfiguration snapshot() {
+        final YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("version", SCHEMA_VERSION);
+        yaml.set("wallet", walletBalance);
+        yaml.set("stats.dust-collected", dustCollected);
+        yaml.set("stats.items-forged", itemsForged);
+        yaml.set("forge-history", forgeHistory.stream().map(ForgeRecord::encode).toList());
+        cooldowns.forEach((trait, ticks) -> yaml.set("cooldowns." + trait, ticks));
+        yaml.set("settings.proc-notifications", procNotifications);
+
+        this.dirty = false;
+        return yaml;
+    }
+
+    /**
+     * Reads a player's data from a config written by {@link #snapshot()}.
+     */
+    static PlayerData read(final UUID uniqueId, final ConfigurationSection yaml) {
+        final PlayerData data = new PlayerData(uniqueId);
+        data.walletBalance = yaml.getLong("wallet");
+        data.dustCollected = yaml.getLong("stats.dust-collected");
+        data.itemsForged = yaml.getLong("stats.items-forged");
+        data.procNotifications = yaml.getBoolean("settings.proc-notifications", true);
+
+        final List<String> history = yaml.getStringList("forge-history");
+        for (final String line : history) {
+            final ForgeRecord record = ForgeRecord.decode(line);
+            if (record != null && data.forgeHistory.size() < MAX_HISTORY)
+                data.forgeHistory.addLast(record);
+        }
+
+        final ConfigurationSection cooldowns = yaml.getConfigurationSection("cooldowns");
+        if (cooldowns != null) {
+            data.cooldowns = Maps.newHashMap();
+            for (final String trait : cooldowns.getKeys(false))
+                data.cooldowns.put(trait, cooldowns.getLong(trait));
+        }
+        return data;
+    }
+}
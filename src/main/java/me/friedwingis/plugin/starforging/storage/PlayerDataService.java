@@ -0,0 +1,287 @@
+package me.friedwingis.plugin.starforging.storage;
+
+import me.friedwingis.plugin.starforging.scheduler.WorkPriority;
+import me.friedwingis.plugin.starforging.scheduler.WorkScheduler;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Keeps the data of online players in memory and persists it write-behind. Changed players are
+ * queued as low priority flushes on the {@link WorkScheduler}, which snapshot their data and hand
+ * it to a single storage thread, so no tick ever waits on disk. Loads run on the same thread, which keeps them ordered after any pending write.
+ */
+public class PlayerDataService implements Listener {
+
+    private static final int LOAD_ATTEMPTS = 3;
+    private static final long LOAD_RETRY_SECONDS = 2;
+
+    private final Plugin plugin;
+    private final WorkScheduler scheduler;
+    private final PlayerDataStore store;
+    private final int flushIntervalTicks;
+    private final long shutdownTimeoutSeconds;
+
+    private final ExecutorService storageThread;
+    private final Map<UUID, PlayerData> online = new ConcurrentHashMap<>();
+    private final Map<UUID, PlayerData> preloaded = new ConcurrentHashMap<>(); // Loaded during login, before join
+    // Joined before their data loaded, mapped to the placeholder data that mustn't be written until it has
+    private final Map<UUID, PlayerData> loading = new ConcurrentHashMap<>();
+
+    private boolean started;
+
+    /**
+     * @param plugin                 The owning plugin.
+     * @param scheduler              The scheduler flushes are queued on.
+     * @param store                  The store player data is read from and written to.
+     * @param flushIntervalTicks     How often changed data is handed to the storage thread.
+     * @param shutdownTimeoutSeconds How long shutdown waits for pending writes.
+     */
+    public PlayerDataService(final Plugin plugin, final WorkScheduler scheduler, final PlayerDataStore store,
+                             final int flushIntervalTicks, final long shutdownTimeoutSeconds) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.store = store;
+        this.flushIntervalTicks = Math.max(1, flushIntervalTicks);
+        this.shutdownTimeoutSeconds = Math.max(1L, shutdownTimeoutSeconds);
+        this.storageThread = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "StarForging-Storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the flush task and loads data for anyone already online (e.g. after a reload).
+     */
+    public void start() {
+        if (!started) {
+            started = true;
+            scheduler.every(flushIntervalTicks, this::flushDirty);
+        }
+
+        for (final Player player : Bukkit.getOnlinePlayers())
+            attach(player.getUniqueId());
+    }
+
+    /**
+     * Returns the data of an online player, or null if they aren't online.
+     */
+    public PlayerData get(final UUID uniqueId) {
+        return online.get(uniqueId);
+    }
+
+    /**
+     * Hands every pending change to the storage thread and waits, up to the configured
+     * timeout, for the writes to finish.
+     */
+    public void shutdown() {
+        for (final PlayerData data : online.values()) {
+            // Data that never finished loading can't be written without overwriting what's stored
+            if (data.isDirty() && isLoaded(data))
+                submitWrite(data.getUniqueId(), data.snapshot());
+        }
+
+        storageThread.shutdown();
+        try {
+            if (!storageThread.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS))
+                plugin.getLogger().warning("Player data writes did not finish within " + shutdownTimeoutSeconds + "s, some changes may be lost.");
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Loads the player's data on the storage thread while they log in. This runs on the
+     * login thread, so waiting here never blocks the main thread. Runs at HIGHEST rather than
+     * MONITOR since a failed load refuses the login.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    private void onPreLogin(final AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED)
+            return;
+
+        final UUID uniqueId = event.getUniqueId();
+        // Still online from another session, whose quit save hasn't been queued yet. Reading now would
+        // miss it, so the join loads instead, which the storage thread runs after that save.
+        if (online.containsKey(uniqueId))
+            return;
+
+        try {
+            preloaded.put(uniqueId, storageThread.submit(() -> store.load(uniqueId)).get());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + uniqueId, e.getCause());
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+                    Component.text("Failed to load your StarForging data, please try again."));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onPreLoginResult(final AsyncPlayerPreLoginEvent event) {
+        // Refused after the preload, e.g. by another HIGHEST handler, so no login will claim the data
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED)
+            preloaded.remove(event.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onLogin(final PlayerLoginEvent event) {
+        // Another plugin refused the login, so the join that would claim the data never comes
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED)
+            preloaded.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    private void onJoin(final PlayerJoinEvent event) {
+        attach(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onQuit(final PlayerQuitEvent event) {
+        final UUID uniqueId = event.getPlayer().getUniqueId();
+        final PlayerData data = online.remove(uniqueId);
+
+        if (data == null)
+            return;
+
+        // If their data is still loading, the load callback writes the merged result instead.
+        // If it never loaded, nothing is written, so what's stored survives.
+        if (!isLoaded(data))
+            loading.remove(uniqueId, data);
+        else if (data.isDirty())
+            submitWrite(uniqueId, data.snapshot());
+    }
+
+    /**
+     * Makes a player's data available, using what was loaded during login. Without it,
+     * the player starts with empty data and the stored data is merged in once loaded.
+     */
+    private void attach(final UUID uniqueId) {
+        final PlayerData preloadedData = preloaded.remove(uniqueId);
+        if (preloadedData != null) {
+            online.put(uniqueId, preloadedData);
+            return;
+        }
+
+        final PlayerData data = new PlayerData(uniqueId);
+        loading.put(uniqueId, data);
+        online.put(uniqueId, data);
+        load(data, 1);
+    }
+
+    /**
+     * Loads a joined player's stored data on the storage thread and merges it into their placeholder.
+     * A failed load is retried a few times, then the player is kicked; until a load succeeds the
+     * placeholder is never written, so a read error can't overwrite the stored file.
+     */
+    private void load(final PlayerData data, final int attempt) {
+        if (storageThread.isShutdown())
+            return;
+
+        final UUID uniqueId = data.getUniqueId();
+        storageThread.execute(() -> {
+            final PlayerData stored;
+            try {
+                stored = store.load(uniqueId);
+            } catch (final IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + uniqueId + " (attempt " + attempt + " of " + LOAD_ATTEMPTS + ")", e);
+                if (online.get(uniqueId) != data)
+                    return; // They left, and the placeholder is discarded with them.
+
+                if (attempt < LOAD_ATTEMPTS)
+                    plugin.getServer().getAsyncScheduler().runDelayed(plugin, task -> load(data, attempt + 1), LOAD_RETRY_SECONDS, TimeUnit.SECONDS);
+                else
+                    kick(uniqueId);
+                return;
+            }
+
+            // PlayerData is synchronized, so the merge can happen right here. Merging before
+            // clearing the loading flag keeps a flush from writing the unmerged data.
+            data.merge(stored);
+            loading.remove(uniqueId, data);
+
+            // They left before the load finished, so nothing else will save this
+            if (online.get(uniqueId) != data)
+                write(uniqueId, data.snapshot());
+        });
+    }
+
+    private void kick(final UUID uniqueId) {
+        final Player player = Bukkit.getPlayer(uniqueId);
+        if (player != null)
+            player.getScheduler().run(plugin, task -> player.kick(Component.text("Failed to load your StarForging data, please rejoin.")), null);
+    }
+
+    /**
+     * Returns true if the player is online and their stored data has finished loading. Until then
+     * their data is a placeholder that's discarded if the load fails, so nothing lasting should go in it.
+     */
+    public boolean isLoaded(final UUID uniqueId) {
+        final PlayerData data = online.get(uniqueId);
+        return data != null && isLoaded(data);
+    }
+
+    /**
+     * Returns true once the data's stored state has been merged in, i.e. writing it can't lose anything.
+     */
+    private boolean isLoaded(final PlayerData data) {
+        return loading.get(data.getUniqueId()) != data;
+    }
+
+    /**
+     * Snapshots every changed player and writes them as one batch on the storage thread.
+     */
+    private void flushDirty() {
+        for (final PlayerData data : online.values()) {
+            if (data.isDirty() && isLoaded(data))
+                scheduler.submit(WorkPriority.LOW, new FlushKey(data.getUniqueId()), () -> flush(data));
+        }
+    }
+
+    private void flush(final PlayerData data) {
+        // Snapshotted when the task runs rather than when it was queued, so a late flush still writes the latest data
+        if (data.isDirty() && isLoaded(data))
+            submitWrite(data.getUniqueId(), data.snapshot());
+    }
+
+    private void submitWrite(final UUID uniqueId, final YamlConfiguration snapshot) {
+        if (!storageThread.isShutdown())
+            storageThread.execute(() -> write(uniqueId, snapshot));
+    }
+
+    private void write(final UUID uniqueId, final YamlConfiguration snapshot) {
+        try {
+            store.write(uniqueId, snapshot);
+        } catch (final IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save player data for " + uniqueId, e);
+        }
+    }
+
+    // Coalesces flushes queued for the same player
+    private record FlushKey(UUID uniqueId) {
+    }
+}
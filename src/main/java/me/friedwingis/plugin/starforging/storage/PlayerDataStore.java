@@ -0,0 +1,73 @@
+package me.friedwingis.plugin.starforging.storage;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * File-backed store holding one YAML file per player. Every method does blocking disk I/O
+ * and must only be called from the storage thread.
+ */
+public class PlayerDataStore {
+
+    private final Path directory;
+    private final Logger logger;
+
+    public PlayerDataStore(final Path directory, final Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * Loads a player's data, or returns empty data if they have none yet.
+     * A corrupt file is moved aside so it is never overwritten.
+     *
+     * @throws IOException If the file exists but can't be read.
+     */
+    public PlayerData load(final UUID uniqueId) throws IOException {
+        final Path file = file(uniqueId);
+        if (!Files.exists(file))
+            return new PlayerData(uniqueId);
+
+        final YamlConfiguration yaml = new YamlConfiguration();
+        try {
+            yaml.loadFromString(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (final InvalidConfigurationException e) {
+            final Path corrupt = file.resolveSibling(file.getFileName() + ".corrupt-" + System.currentTimeMillis());
+            Files.move(file, corrupt, StandardCopyOption.REPLACE_EXISTING);
+            logger.severe("Player data for " + uniqueId + " is corrupt, moved it to " + corrupt.getFileName() + ": " + e.getMessage());
+            return new PlayerData(uniqueId);
+        }
+
+        return PlayerData.read(uniqueId, yaml);
+    }
+
+    /**
+     * Writes a snapshot to disk. The file is written next to the target and moved over it,
+     * so a crash mid-write never leaves a half-written file behind.
+     */
+    public void write(final UUID uniqueId, final YamlConfiguration snapshot) throws IOException {
+        Files.createDirectories(directory);
+
+        final Path file = file(uniqueId);
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        Files.writeString(temp, snapshot.saveToString(), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path file(final UUID uniqueId) {
+        return directory.resolve(uniqueId + ".yml");
+    }
+}
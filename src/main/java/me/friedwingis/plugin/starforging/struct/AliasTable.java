@@ -0,0 +1,89 @@
+package me.friedwingis.plugin.starforging.struct;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Picks an index with probability proportional to its weight in constant time, using Vose's
+ * alias method. Building the table is O(n); every roll afterwards reads one column and makes one
+ * comparison, however many entries there are.
+ */
+public final class AliasTable {
+
+    // Chance of keeping each column's own index rather than its alias
+    private final double[] probability;
+    // The index a column hands out when its own isn't kept
+    private final int[] alias;
+
+    /**
+     * @param weights Relative weights, none negative and at least one above 0.
+     * @throws IllegalArgumentException If no weight is above 0.
+     */
+    public AliasTable(final double[] weights) {
+        final int n = weights.length;
+        double total = 0;
+        for (final double weight : weights)
+            total += Math.max(0, weight);
+        if (total <= 0)
+            throw new IllegalArgumentException("At least one weight needs to be above 0.");
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Scale so the average column is exactly 1, then pair each short column with a tall one
+        final double[] scaled = new double[n];
+        final int[] small = new int[n], large = new int[n];
+        int smallCount = 0, largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = Math.max(0, weights[i]) * n / total;
+            if (scaled[i] < 1.0)
+                small[smallCount++] = i;
+            else
+                large[largeCount++] = i;
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount], more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0)
+                small[smallCount++] = more;
+            else
+                large[largeCount++] = more;
+        }
+
+        // Whatever is left is 1 up to rounding, and always keeps its own index
+        while (largeCount > 0) {
+            final int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            final int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+
+    /**
+     * Picks an index.
+     *
+     * @param roll A uniform random value in [0, 1).
+     */
+    public int roll(final double roll) {
+        // The whole part of the scaled roll picks the column, the fraction decides between it and its alias
+        final double scaled = roll * probability.length;
+        final int column = Math.min((int) scaled, probability.length - 1);
+        return scaled - column < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Returns the number of entries.
+     */
+    public int size() {
+        return probability.length;
+    }
+}
@@ -0,0 +1,50 @@
+package me.friedwingis.plugin.starforging.struct;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Remembers what a GUI last put in each of its slots, and only writes a slot again when
+ * the item actually changes. Every write sends the slot to each viewer, so GUIs that
+ * refresh often (placeholders, animations, progress bars) should go through here.
+ *
+ * Items are compared by reference first, so GUIs that reuse cached items skip the
+ * comparison entirely.
+ */
+public final class DiffedSlots {
+
+    private final Inventory inventory;
+    private final ItemStack[] shown;
+
+    public DiffedSlots(final Inventory inventory) {
+        this.inventory = inventory;
+        this.shown = new ItemStack[inventory.getSize()];
+    }
+
+    /**
+     * Puts an item in a slot, unless the slot already shows it.
+     *
+     * @return True if the slot was written.
+     */
+    public boolean set(final int slot, final ItemStack item) {
+        final ItemStack current = shown[slot];
+        if (current == item || (current != null && current.equals(item)))
+            return false;
+
+        shown[slot] = item;
+        inventory.setItem(slot, item);
+        return true;
+    }
+
+    /**
+     * Replaces every slot at once, e.g. when a GUI is reset to its layout.
+     */
+    public void setAll(final ItemStack[] contents) {
+        inventory.setContents(contents);
+        System.arraycopy(contents, 0, shown, 0, Math.min(contents.length, shown.length));
+    }
+}
@@ -1,7 +1,15 @@
 package me.friedwingis.plugin.starforging.struct;
 
+import me.friedwingis.plugin.starforging.config.ConfigService;
+import me.friedwingis.plugin.starforging.config.ConfigSnapshot;
+import me.friedwingis.plugin.starforging.managers.RandomService;
+import me.friedwingis.plugin.starforging.managers.StardustWallet;
+import me.friedwingis.plugin.starforging.storage.ForgeRecord;
+import me.friedwingis.plugin.starforging.storage.PlayerData;
+import me.friedwingis.plugin.starforging.storage.PlayerDataService;
 import me.friedwingis.plugin.starforging.utils.Chat;
 import me.friedwingis.plugin.starforging.utils.Constants;
+import me.friedwingis.plugin.starforging.utils.MessageTemplate;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -14,6 +22,9 @@ import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Copyright Fried - 2025
  * All code is private and not to be used by any
@@ -23,23 +34,43 @@ import org.jetbrains.annotations.NotNull;
  * It allows players to fuse StarDust with Diamond or Netherite armor to apply powerful Starbound Traits.
  */
 public class ForgeGUI implements InventoryHolder {
+    private static final MessageTemplate REQUIRED_AMOUNT = Chat.template("<gray>Required Amount: <u><amount>", "amount");
+    private static final MessageTemplate RETURNED_DUST = Chat.template("<gray>Returned <amount> left over StarDust to you.", "amount");
+
+    // Items shared by every session, built once. Inventories store copies, so these never change.
+    private static final ItemStack BACKGROUND = new ItemBuilder(Material.BLACK_STAINED_GLASS_PANE).setDisplayName("<red>").build();
+    private static final ItemStack READY_OUTPUT = createReadyOutputPlaceholder();
+    private static final ItemStack WALLET_SLOT = createWalletPlaceholder();
+
+    // The locked output lists the Stardust costs, so it and the layouts holding it are rebuilt once per config snapshot
+    private static volatile Layouts layouts;
+
     private final Inventory inventory;
-    private boolean forged;  // Indicates whether the item has been successfully forged
+    private final DiffedSlots slots;
+    private final StardustWallet wallet;
+    private final PlayerDataService playerData;
+    private final RandomService random;
+    private final ConfigService config;
+    private final AtomicReference<OutputState> output = new AtomicReference<>(OutputState.LOCKED);
+    private UUID viewer; // The player this session is open for
 
     /**
-     * Initializes the Forge GUI with empty slots and placeholders.
+     * Initializes the Forge GUI with empty slots and placeholders. Every open gets its own session;
+     * a live inventory is never shared or reused, since its last viewer may still be closing it.
+     *
+     * @param wallet     The Stardust wallet, used instead of the Stardust slot when wallet mode is enabled.
+     * @param playerData Where completed forges are recorded.
+     * @param random     Rolls the trait a forge grants.
+     * @param config     Holds the Stardust costs and trait odds.
      */
-    public ForgeGUI() {
+    public ForgeGUI(final StardustWallet wallet, final PlayerDataService playerData, final RandomService random, final ConfigService config) {
+        this.wallet = wallet;
+        this.playerData = playerData;
+        this.random = random;
+        this.config = config;
         this.inventory = Bukkit.createInventory(this, 27, Chat.format("<gradient:#7a00cc:#cc00ff>Celestial Forge"));
-
-        // Set up the empty slots (black stained glass) for the player to interact with
-        for (int i = 0; i < inventory.getSize(); i++) {
-            if (i == 11 || i == 12) continue;  // Skip the slots for armor and Stardust
-            this.inventory.setItem(i, new ItemBuilder(Material.BLACK_STAINED_GLASS_PANE).setDisplayName("<red>").build());
-        }
-
-        // Set the output placeholder in slot 15
-        this.inventory.setItem(15, createPlaceholderOutput());
+        this.slots = new DiffedSlots(inventory);
+        this.slots.setAll(layout());
     }
 
     /**
@@ -47,6 +78,7 @@ public class ForgeGUI implements InventoryHolder {
      * Plays the enchantment table sound to indicate the forge is ready.
      */
     public void open(final Player player) {
+        this.viewer = player.getUniqueId();
         player.openInventory(inventory);
         player.playSound(player.getLocation(), Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 1.2f);
     }
@@ -56,7 +88,8 @@ public class ForgeGUI implements InventoryHolder {
      * If the item was not forged, it returns the items to the player.
      */
     public void handleClose(final InventoryCloseEvent event) {
-        if (forged) return;  // Do nothing if the item was forged
+        if (output.get() == OutputState.FORGED)
+            return; // Nothing to return if the item was forged
 
         final Player player = (Player) event.getPlayer();
 
@@ -66,7 +99,7 @@ public class ForgeGUI implements InventoryHolder {
 
         if (inputItem != null && !inputItem.getType().isAir())
             giveOrDropItem(player, inputItem);
-        if (dustItem != null && !dustItem.getType().isAir())
+        if (!wallet.isEnabled() && dustItem != null && !dustItem.getType().isAir())
             giveOrDropItem(player, dustItem);
     }
 
@@ -93,58 +126,70 @@ public class ForgeGUI implements InventoryHolder {
     /**
      * Handles click events in the forge interface.
      * Handles both input validation and the forging process.
+     *
+     * @return True if the click completed a forge.
      */
-    public void handleTopClick(final InventoryClickEvent event) {
+    public boolean handleTopClick(final InventoryClickEvent event) {
         final Player player = (Player) event.getWhoClicked();
         final int slot = event.getSlot();
 
         // If player clicked on the output slot (15), start the forging process
         if (slot == 15) {
             final ItemStack inputItem = event.getInventory().getItem(11);
-            final ItemStack dustItem = event.getInventory().getItem(12);
+            final ItemStack dustItem = wallet.isEnabled() ? null : event.getInventory().getItem(12);
 
             // Cancel if items are missing or invalid
-            if (inputItem == null || inputItem.getType().isAir() || dustItem == null || dustItem.getType().isAir()) {
+            if (inputItem == null || inputItem.getType().isAir()
+                    || (!wallet.isEnabled() && (dustItem == null || dustItem.getType().isAir()))) {
                 player.sendMessage(Chat.severe("You do not have the correct combination of items!"));
-                return;
+                return false;
             }
 
             // Ensure the item doesn't already have a trait applied
             if (StarboundTrait.containsTrait(inputItem)) {
                 player.sendMessage(Chat.severe("You may only apply one trait per item."));
-                return;
+                return false;
             }
 
+            // Only one click may forge per session, however the clicks arrive
+            final OutputState previous = output.get();
+            if (previous == OutputState.FORGED || !output.compareAndSet(previous, OutputState.FORGED))
+                return false;
+
             final int dustReq = getDustRequirement(inputItem);
-            if (dustItem.getAmount() < dustReq) {
+            if (getAvailableDust(dustItem) < dustReq
+                    || (wallet.isEnabled() && !wallet.withdraw(player.getUniqueId(), dustReq))) {
+                output.set(previous); // Still matches what the output slot shows
                 player.sendMessage(Chat.severe("You do not have the required amount of StarDust for this material!"));
-                player.sendMessage(Chat.format("<gray>Required Amount: <u>" + dustReq));
-                return;
+                player.sendMessage(REQUIRED_AMOUNT.render(dustReq));
+                return false;
             }
 
             // Forge the item and give it to the player
-            player.getInventory().addItem(createForgedResult(inputItem));
+            final StarboundTrait trait = rollTrait(player, inputItem.getType());
+            player.getInventory().addItem(createForgedResult(inputItem, trait));
+            recordForge(player, inputItem, trait);
 
-            // Return any leftover StarDust
-            final int remainingDust = dustItem.getAmount() - dustReq;
+            // Return any leftover StarDust (the wallet keeps its own remainder)
+            final int remainingDust = wallet.isEnabled() ? 0 : dustItem.getAmount() - dustReq;
             if (remainingDust > 0) {
                 final ItemStack remainder = dustItem.clone();
                 remainder.setAmount(remainingDust);
                 player.getInventory().addItem(remainder);
             }
 
-            // Mark the item as forged and close the inventory
-            forged = true;
+            // Close the inventory, the session was already marked as forged
             player.closeInventory();
             player.sendMessage(Chat.praise("Your item has been successfully Starforged!"));
 
             if (remainingDust > 0) {
-                player.sendMessage(Chat.format("<gray>Returned " + remainingDust + " left over StarDust to you."));
+                player.sendMessage(RETURNED_DUST.render(remainingDust));
             }
+            return true;
         }
 
-        // Handle item insertion into the forge slots (11 and 12)
-        if (slot == 11 || slot == 12) {
+        // Handle item insertion into the forge slots (11 and 12, or only 11 when paying from the wallet)
+        if (slot == 11 || (slot == 12 && !wallet.isEnabled())) {
             final ItemStack current = inventory.getItem(slot);
             final ItemStack cursor = event.getCursor();
 
@@ -153,11 +198,11 @@ public class ForgeGUI implements InventoryHolder {
                 if (slot == 11) {
                     if (!isValidArmorPiece(cursor.getType())) {
                         player.sendMessage(Chat.warn("Only a diamond or netherite armor piece can be inserted here."));
-                        return;
+                        return false;
                     }
                     if (StarboundTrait.containsTrait(cursor)) {
                         player.sendMessage(Chat.severe("This item already has a trait applied! You may only apply one trait per item."));
-                        return;
+                        return false;
                     }
                 }
 
@@ -165,67 +210,135 @@ public class ForgeGUI implements InventoryHolder {
                 if (slot == 12) {
                     if (!cursor.hasItemMeta() || !cursor.getItemMeta().getPersistentDataContainer().has(Constants.STARDUST_KEY)) {
                         player.sendMessage(Chat.warn("Only Stardust can be inserted here."));
-                        return;
+                        return false;
                     }
                 }
 
                 // Insert item if slot is empty
                 if (current == null || current.getType().isAir()) {
-                    inventory.setItem(slot, cursor.clone());
+                    slots.set(slot, cursor.clone());
                     player.setItemOnCursor(null);
                     updateOutputSlot();
                 }
-                return;
+                return false;
             }
 
             // Handle removing items from the forge slots
             if (cursor.getType() == Material.AIR && current != null && current.getType() != Material.AIR) {
                 player.setItemOnCursor(current.clone());
-                inventory.setItem(slot, null);
+                slots.set(slot, null);
                 updateOutputSlot();
             }
         }
+        return false;
     }
 
     /**
-     * Updates the output slot based on the items in the input and Stardust slots.
+     * Moves the output slot to locked or ready, based on the items in the input and Stardust slots.
+     * The slot is only written when the state actually changes.
      */
     private void updateOutputSlot() {
         final ItemStack input = inventory.getItem(11);
-        final ItemStack dust = inventory.getItem(12);
+        final ItemStack dust = wallet.isEnabled() ? null : inventory.getItem(12);
+
+        final boolean ready = input != null && input.getType() != Material.AIR
+                && isValidArmorPiece(input.getType()) && getAvailableDust(dust) >= getDustRequirement(input);
+        transition(ready ? OutputState.READY : OutputState.LOCKED);
+    }
+
+    /**
+     * Moves the output slot to a new state, writing its placeholder only on an actual change.
+     * A forged session stays forged; it's closed right after, and the next open gets a new session.
+     */
+    private void transition(final OutputState next) {
+        final OutputState previous = output.get();
+        if (previous == next || previous == OutputState.FORGED || !output.compareAndSet(previous, next))
+            return;
 
-        final ItemStack result = (input != null && input.getType() != Material.AIR
-                && dust != null && dust.getType() != Material.AIR && isValidArmorPiece(input.getType()) && dust.getAmount() >= getDustRequirement(input))
-                ? createReadyOutputPlaceholder()
-                : createPlaceholderOutput();
+        slots.set(15, next == OutputState.READY ? READY_OUTPUT : layouts(config.get()).lockedOutput);
+    }
 
-        inventory.setItem(15, result);
+    /**
+     * Picks the Starbound trait a forge grants for an armor piece, rolled on the forging player's behalf.
+     */
+    private StarboundTrait rollTrait(final Player player, final Material material) {
+        return config.get().getForgeOdds(material).roll(random.nextDouble(player));
     }
 
     /**
-     * Creates the final forged item by applying a random Starbound trait.
+     * Creates the final forged item by applying the rolled Starbound trait.
      */
-    private ItemStack createForgedResult(final ItemStack input) {
+    private ItemStack createForgedResult(final ItemStack input, final StarboundTrait trait) {
         final ItemStack clone = input.clone();
-        final double r = Math.random();
+        trait.applyToItem(clone);
+        return clone;
+    }
 
-        StarboundTrait trait;
-        if (r < 0.15) {
-            trait = StarboundTrait.GALACTIC_REINFORCEMENT;
-        } else if (r < 0.40) {
-            trait = StarboundTrait.VOID_STEP;
-        } else {
-            trait = StarboundTrait.SOLAR_WRATH;
+    /**
+     * Adds the forge to the player's stored forge history.
+     */
+    private void recordForge(final Player player, final ItemStack input, final StarboundTrait trait) {
+        final PlayerData data = playerData.get(player.getUniqueId());
+        if (data != null)
+            data.recordForge(new ForgeRecord(System.currentTimeMillis(), input.getType().name(), trait.name()));
+    }
+
+    /**
+     * Returns the Stardust available for forging: the viewer's wallet balance in wallet mode,
+     * otherwise the size of the stack in the Stardust slot.
+     */
+    private long getAvailableDust(final ItemStack dustItem) {
+        if (wallet.isEnabled())
+            return viewer != null ? wallet.getBalance(viewer) : 0L;
+        return dustItem != null && !dustItem.getType().isAir() ? dustItem.getAmount() : 0L;
+    }
+
+    /**
+     * Returns the starting contents for this session's mode.
+     */
+    private ItemStack[] layout() {
+        final Layouts current = layouts(config.get());
+        return wallet.isEnabled() ? current.walletLayout : current.layout;
+    }
+
+    /**
+     * Returns the layouts for a config snapshot, building them the first time a snapshot is seen.
+     */
+    private static Layouts layouts(final ConfigSnapshot snapshot) {
+        final Layouts current = layouts;
+        if (current != null && current.snapshot == snapshot)
+            return current;
+
+        // Racing builders produce identical layouts, so whichever is stored last is fine
+        final ItemStack lockedOutput = createPlaceholderOutput(snapshot);
+        final Layouts built = new Layouts(snapshot, lockedOutput, createLayout(lockedOutput, false), createLayout(lockedOutput, true));
+        layouts = built;
+        return built;
+    }
+
+    /**
+     * Creates the initial contents of every forge: background panes, the empty input slots and the locked output.
+     * In wallet mode the Stardust slot shows a placeholder, since the cost is taken from the wallet.
+     */
+    private static ItemStack[] createLayout(final ItemStack lockedOutput, final boolean walletMode) {
+        final ItemStack[] layout = new ItemStack[27];
+        for (int i = 0; i < layout.length; i++) {
+            if (i == 11 || i == 12) continue;  // Skip the slots for armor and Stardust
+            layout[i] = BACKGROUND;
         }
 
-        trait.applyToItem(clone);
-        return clone;
+        if (walletMode)
+            layout[12] = WALLET_SLOT;
+
+        // Set the output placeholder in slot 15
+        layout[15] = lockedOutput;
+        return layout;
     }
 
     /**
-     * Creates a placeholder item for the output slot when conditions aren't met.
+     * Creates a placeholder item for the output slot when conditions aren't met, listing the snapshot's Stardust costs.
      */
-    private ItemStack createPlaceholderOutput() {
+    private static ItemStack createPlaceholderOutput(final ConfigSnapshot snapshot) {
         return new ItemBuilder(Material.RED_STAINED_GLASS_PANE)
                 .setDisplayName("<red><b>Locked")
                 .setLore(
@@ -237,18 +350,33 @@ public class ForgeGUI implements InventoryHolder {
                         "<yellow>- <gray>Insert <gradient:#e0e0e0:#ffffff><b>StarDust</b> <gray>into <gold>Slot 2",
                         "",
                         "<light_purple><b>Stardust Cost:",
-                        "<white>- <gray>Diamond Armor: 48",
-                        "<white>- <gray>Netherite Armor: 64",
+                        "<white>- <gray>Diamond Armor: " + snapshot.getDiamondDustCost(),
+                        "<white>- <gray>Netherite Armor: " + snapshot.getNetheriteDustCost(),
                         "",
                         "<gray>The imbued item will appear here once both are valid."
                 )
                 .build();
     }
 
+    /**
+     * Creates the placeholder shown in the Stardust slot when the cost is paid from the wallet.
+     */
+    private static ItemStack createWalletPlaceholder() {
+        return new ItemBuilder(Material.BONE_MEAL)
+                .setDisplayName("<gradient:#e0e0e0:#ffffff><b>StarDust Wallet")
+                .setLore(
+                        "<gray>The forging cost is taken from",
+                        "<gray>your StarDust balance.",
+                        "",
+                        "<gray>Check it with <white>/stardust balance</white>."
+                )
+                .build();
+    }
+
     /**
      * Creates a ready-to-forge placeholder when both input and Stardust are valid.
      */
-    private ItemStack createReadyOutputPlaceholder() {
+    private static ItemStack createReadyOutputPlaceholder() {
         return new ItemBuilder(Material.LIME_STAINED_GLASS_PANE)
                 .setDisplayName("<green><b>Ready to Forge")
                 .setLore(
@@ -264,21 +392,16 @@ public class ForgeGUI implements InventoryHolder {
     }
 
     /**
-     * Gets the Stardust requirement based on the material of the armor piece.
+     * Gets the Stardust requirement based on the material of the armor piece, -1 if it can't be forged.
      */
     private int getDustRequirement(final ItemStack item) {
-        final Material material = item.getType();
-        return switch (material) {
-            case DIAMOND_HELMET, DIAMOND_CHESTPLATE, DIAMOND_LEGGINGS, DIAMOND_BOOTS -> 48;
-            case NETHERITE_HELMET, NETHERITE_CHESTPLATE, NETHERITE_LEGGINGS, NETHERITE_BOOTS -> 64;
-            default -> -1;
-        };
+        return config.get().getDustCost(item.getType());
     }
 
     /**
      * Checks if the given material is a valid armor piece (Diamond or Netherite).
      */
-    private boolean isValidArmorPiece(final Material material) {
+    public static boolean isValidArmorPiece(final Material material) {
         return EnchantmentTarget.ARMOR.includes(material) && (material.name().contains("DIAMOND") || material.name().contains("NETHERITE"));
     }
 
@@ -286,4 +409,20 @@ public class ForgeGUI implements InventoryHolder {
     public @NotNull Inventory getInventory() {
         return inventory;
     }
+
+    /**
+     * What the output slot of a session shows. Forged is claimed by the one click allowed to forge,
+     * and is final, since every open gets its own session.
+     */
+    private enum OutputState {
+        LOCKED,
+        READY,
+        FORGED
+    }
+
+    /**
+     * The starting contents of a session, built for one config snapshot.
+     */
+    private record Layouts(ConfigSnapshot snapshot, ItemStack lockedOutput, ItemStack[] layout, ItemStack[] walletLayout) {
+    }
 }
\ No newline at end of file
@@ -1,46 +1,152 @@
 package me.friedwingis.plugin.starforging.struct;
 
 import com.google.common.collect.Lists;
-import lombok.AllArgsConstructor;
+import com.google.common.collect.Maps;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import me.friedwingis.plugin.starforging.utils.Chat;
+import me.friedwingis.plugin.starforging.utils.ItemLore;
 import net.kyori.adventure.text.Component;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.text.WordUtils;
 import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.logging.Logger;
 
 /**
  * Copyright Fried - 2025
  * All code is private and not to be used by any
  * other entity unless explicitly stated otherwise.
+ *
+ * A Starbound trait from the catalog defined under "traits" in config.yml. The catalog is loaded
+ * once on enable and then never changes, so traits can be compared by identity and per-trait data
+ * kept in arrays indexed by {@link #ordinal()}. Equipped traits are tracked as bits of a long, which
+ * caps the catalog at 64 traits.
  **/
-@AllArgsConstructor
-public enum StarboundTrait {
-    VOID_STEP("<#6A0DAD>", new String[]{
-            "20% chance to ignore fall damage.",
-            "3% chance to teleport behind your attacker when struck."
-    }),
-    SOLAR_WRATH("<#FFD700>", new String[]{
-            "Deal +15% melee damage in sunlight.",
-            "Chance to blind enemies briefly when attacking at high noon."
-    }),
-    GALACTIC_REINFORCEMENT("<#D8B4F8>", new String[]{
-            "Gain Absorption II for 3s when below 25% HP.",
-            "20s cooldown between activations."
-    });
+public final class StarboundTrait {
 
+    // One bit per trait in an equipped-trait mask
+    public static final int MAX_TRAITS = Long.SIZE;
+
+    // Current layout of the packed trait value, bump when the layout changes
+    private static final int SCHEMA_VERSION = 1;
+
+    // Packed trait value: [version:8][trait id:8][tier:8][roll:8], tier and roll are 0 when unused
+    private static final NamespacedKey TRAIT_KEY = new NamespacedKey("starforging", "trait");
+    // Pre-versioning key holding the trait's enum name, migrated to TRAIT_KEY when the item is next touched
+    private static final NamespacedKey LEGACY_KEY = new NamespacedKey("starforging", "starbound_trait");
+
+    // Every trait plus its decoding tables, so a read never searches
+    private static volatile Catalog catalog = Catalog.EMPTY;
+    // Lore lines of every trait, built once for the lore mode they were built in
+    private static volatile TraitLore lore;
+
+    // Stable id stored on items, never reuse or renumber one
+    private final int id;
+    // The trait's key in config.yml, e.g. VOID_STEP
+    private final String name;
+    // Position in the catalog, used to index per-trait arrays
+    private final int ordinal;
     // The color associated with this trait (for display purposes)
-    final String color;
+    private final String color;
     // The array of perks that this trait provides
-    final String[] perks;
+    private final String[] perks;
+
+    private StarboundTrait(final int id, final String name, final int ordinal, final String color, final String[] perks) {
+        this.id = id;
+        this.name = name;
+        this.ordinal = ordinal;
+        this.color = color;
+        this.perks = perks;
+    }
+
+    /**
+     * Loads the trait catalog from the "traits" section of config.yml. Call once, before any
+     * item is read or built, i.e. early in onEnable. Invalid entries are logged and skipped.
+     *
+     * @param section The "traits" config section, may be null.
+     * @param logger  Logger for invalid entries.
+     */
+    public static void loadCatalog(final ConfigurationSection section, final Logger logger) {
+        final List<StarboundTrait> traits = Lists.newArrayList();
+        final StarboundTrait[] byId = new StarboundTrait[256];
+        final Map<String, StarboundTrait> byName = Maps.newHashMap();
+
+        if (section != null) {
+            for (final String key : section.getKeys(false)) {
+                final String name = key.toUpperCase(Locale.ROOT);
+                final int id = section.getInt(key + ".id", -1);
+
+                if (traits.size() == MAX_TRAITS) {
+                    logger.warning("Only " + MAX_TRAITS + " traits are supported, skipping " + name + " and every trait after it.");
+                    break;
+                }
+                if (id < 1 || id > 255) {
+                    logger.warning("Trait " + name + " needs an id between 1 and 255, skipping it.");
+                    continue;
+                }
+                if (byId[id] != null || byName.containsKey(name)) {
+                    logger.warning("Trait " + name + " reuses the id or name of " + (byId[id] != null ? byId[id] : byName.get(name)) + ", skipping it.");
+                    continue;
+                }
+
+                final StarboundTrait trait = new StarboundTrait(id, name, traits.size(),
+                        section.getString(key + ".color", "<white>"),
+                        section.getStringList(key + ".perks").toArray(String[]::new));
+                traits.add(trait);
+                byId[id] = trait;
+                byName.put(name, trait);
+            }
+        }
+
+        catalog = new Catalog(traits.toArray(StarboundTrait[]::new), byId, byName);
+        // Built right away so every trait's lore keys can be rendered, even on items made in an earlier lore mode
+        lore = TraitLore.build(ItemLore.getMode(), catalog);
+    }
+
+    /**
+     * Returns every trait in the catalog, in catalog order. The array is shared, don't modify it.
+     */
+    public static StarboundTrait[] values() {
+        return catalog.traits;
+    }
 
     /**
-     * Checks if the given item has a Starbound trait applied to it.
+     * Returns the trait with the given config key (case-insensitive), or null if there is none.
+     */
+    public static StarboundTrait byName(final String name) {
+        return catalog.byName.get(name.toUpperCase(Locale.ROOT));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int ordinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns the single bit representing this trait inside an equipped-trait mask.
+     */
+    public long mask() {
+        return 1L << ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Checks if the given item has a Starbound trait applied to it, in either format.
      *
      * @param item The item to check
      * @return True if the item has a Starbound trait, false otherwise
@@ -49,21 +155,99 @@ public enum StarboundTrait {
         if (item == null || item.getType().isAir() || !item.hasItemMeta())
             return false;
 
-        return item.getItemMeta().getPersistentDataContainer().has(new NamespacedKey("starforging", "starbound_trait"));
+        final PersistentDataContainerView data = item.getPersistentDataContainer();
+        return data.has(TRAIT_KEY) || data.has(LEGACY_KEY);
     }
 
     /**
-     * Retrieves the Starbound trait applied to the given item.
+     * Retrieves the Starbound trait applied to the given item. Reads the item's data
+     * without copying its meta, and never throws on unknown or corrupt values.
      *
      * @param item The item to retrieve the trait from
      * @return The Starbound trait, or null if none is found
      */
     public static StarboundTrait getTrait(final ItemStack item) {
-        if (!containsTrait(item))
+        if (item == null || item.getType().isAir() || !item.hasItemMeta())
+            return null;
+
+        final PersistentDataContainerView data = item.getPersistentDataContainer();
+        final Integer packed = data.get(TRAIT_KEY, PersistentDataType.INTEGER);
+        if (packed != null)
+            return decode(packed);
+
+        // Not migrated yet, fall back to the enum name
+        final String legacy = data.get(LEGACY_KEY, PersistentDataType.STRING);
+        return legacy == null ? null : catalog.byName.get(legacy);
+    }
+
+    /**
+     * Returns true if the item still stores its trait in the pre-versioning format.
+     */
+    public static boolean needsMigration(final ItemStack item) {
+        return item != null && !item.getType().isAir() && item.hasItemMeta()
+                && item.getPersistentDataContainer().has(LEGACY_KEY);
+    }
+
+    /**
+     * Rewrites a pre-versioning trait into the packed format. Items with an unknown
+     * legacy name are left untouched.
+     *
+     * @param item The item to migrate
+     * @return True if the item was changed
+     */
+    public static boolean migrate(final ItemStack item) {
+        if (!needsMigration(item))
+            return false;
+
+        final ItemMeta meta = item.getItemMeta();
+        final PersistentDataContainer data = meta.getPersistentDataContainer();
+        final StarboundTrait trait = catalog.byName.get(data.get(LEGACY_KEY, PersistentDataType.STRING));
+        if (trait == null)
+            return false;
+
+        data.remove(LEGACY_KEY);
+        data.set(TRAIT_KEY, PersistentDataType.INTEGER, trait.encode());
+        item.setItemMeta(meta);
+        return true;
+    }
+
+    /**
+     * Packs this trait into the value stored on items.
+     */
+    private int encode() {
+        return SCHEMA_VERSION << 24 | id << 16;
+    }
+
+    /**
+     * Unpacks a stored value, returning null for unknown versions or ids.
+     */
+    private static StarboundTrait decode(final int packed) {
+        if (packed >>> 24 != SCHEMA_VERSION)
             return null;
+        return catalog.byId[packed >>> 16 & 0xFF];
+    }
 
-        // Retrieve and return the trait name from the persistent data container
-        return StarboundTrait.valueOf(item.getItemMeta().getPersistentDataContainer().get(new NamespacedKey("starforging", "starbound_trait"), PersistentDataType.STRING));
+    /**
+     * Returns the lore lines this trait adds to an item, in the current lore mode.
+     */
+    public List<Component> getLore() {
+        TraitLore current = lore;
+        if (current == null || current.mode != ItemLore.getMode() || current.catalog != catalog)
+            lore = current = TraitLore.build(ItemLore.getMode(), catalog);
+        return current.lines[ordinal];
+    }
+
+    /**
+     * Formats the full lore block of this trait: a separator, the trait's name and color, then each perk.
+     */
+    private List<Component> formatLore() {
+        final List<Component> lines = Lists.newArrayListWithCapacity(perks.length + 2);
+        lines.add(Chat.EMPTY_STRING);
+        lines.add(Chat.format("<light_purple><b>Starbound Trait (" + color + WordUtils.capitalizeFully(name.toLowerCase(Locale.ROOT).replace("_", " ")) + "<light_purple>)"));
+
+        for (final String s : perks)
+            lines.add(Chat.format(" <white><b>*</b> <light_purple>" + s));
+        return lines;
     }
 
     /**
@@ -75,25 +259,43 @@ public enum StarboundTrait {
     public void applyToItem(final ItemStack input) {
         final ItemMeta meta = input.getItemMeta();
 
-        // Initialize lore with the item's current lore or an empty list if none exists
-        final List<Component> lore = meta.hasLore() ? Lists.newArrayList(Objects.requireNonNull(meta.lore())) : Lists.newArrayList();
-
-        // Add a separator and the Starbound trait's name and color
-        lore.add(Chat.EMPTY_STRING);
-        lore.add(Chat.format("<light_purple><b>Starbound Trait (" + color + WordUtils.capitalizeFully(name().toLowerCase().replace("_", " ")) + "<light_purple>)"));
-
-        // Add each perk of the trait to the lore
-        for (final String s : perks) {
-            lore.add(Chat.format(" <white><b>*</b> <light_purple>" + s));
+        // Append the precomputed trait lore to the item's current lore, if any
+        final List<Component> traitLore = getLore();
+        if (meta.hasLore()) {
+            final List<Component> lore = Lists.newArrayList(Objects.requireNonNull(meta.lore()));
+            lore.addAll(traitLore);
+            meta.lore(lore);
+        } else {
+            meta.lore(traitLore);
         }
 
-        // Set the new lore on the item
-        meta.lore(lore);
-
         // Store the trait in the item's persistent data container so we can retrieve it later
-        meta.getPersistentDataContainer().set(new NamespacedKey("starforging", "starbound_trait"), PersistentDataType.STRING, name());
+        meta.getPersistentDataContainer().set(TRAIT_KEY, PersistentDataType.INTEGER, encode());
 
         // Apply the updated metadata to the item
         input.setItemMeta(meta);
     }
-}
\ No newline at end of file
+
+    /**
+     * The loaded traits, indexed by ordinal, by stored id and by name.
+     */
+    private record Catalog(StarboundTrait[] traits, StarboundTrait[] byId, Map<String, StarboundTrait> byName) {
+        private static final Catalog EMPTY = new Catalog(new StarboundTrait[0], new StarboundTrait[256], Map.of());
+    }
+
+    /**
+     * The lore lines of every trait, indexed by ordinal, for one lore mode and catalog.
+     */
+    private record TraitLore(ItemLore.Mode mode, Catalog catalog, List<Component>[] lines) {
+
+        @SuppressWarnings("unchecked")
+        private static TraitLore build(final ItemLore.Mode mode, final Catalog catalog) {
+            final List<Component>[] lines = new List[catalog.traits.length];
+            for (final StarboundTrait trait : catalog.traits) {
+                // Compact keeps the separator and the trait's name
+                lines[trait.ordinal] = ItemLore.build("starforging.trait." + trait.name.toLowerCase(Locale.ROOT), trait.formatLore(), 2);
+            }
+            return new TraitLore(mode, catalog, lines);
+        }
+    }
+}
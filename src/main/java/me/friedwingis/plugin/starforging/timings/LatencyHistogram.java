@@ -0,0 +1,79 @@
+package me.friedwingis.plugin.starforging.timings;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Call, proc and latency counts for one handler over some period. Latencies go into
+ * log-linear buckets (four per power of two, so within ~25%), and every counter is a
+ * striped {@link LongAdder}, so recording never contends.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    // Each group of SUB_BUCKETS buckets covers one power of two, so 34 groups reach 2^35 ns (~34s).
+    // Anything slower lands in the last bucket.
+    static final int BUCKETS = 34 * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder procs = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++)
+            buckets[i] = new LongAdder();
+    }
+
+    void record(final long nanos, final boolean proc) {
+        buckets[bucketOf(nanos)].increment();
+        max.accumulate(nanos);
+        if (proc)
+            procs.increment();
+    }
+
+    void reset() {
+        for (final LongAdder bucket : buckets)
+            bucket.reset();
+        procs.reset();
+        max.reset();
+    }
+
+    /**
+     * Adds this histogram's counts into the given totals.
+     *
+     * @param counts Per-bucket totals, of length {@link #BUCKETS}.
+     * @return The procs and max latency of this histogram, as {procs, max}.
+     */
+    long[] addTo(final long[] counts) {
+        for (int i = 0; i < BUCKETS; i++)
+            counts[i] += buckets[i].sum();
+        return new long[]{procs.sum(), max.get()};
+    }
+
+    static int bucketOf(final long nanos) {
+        if (nanos < SUB_BUCKETS)
+            return (int) Math.max(0L, nanos);
+
+        final int msb = 63 - Long.numberOfLeadingZeros(nanos);
+        final int sub = (int) ((nanos >>> (msb - SUB_BITS)) & (SUB_BUCKETS - 1));
+        return Math.min((msb - SUB_BITS + 1) * SUB_BUCKETS + sub, BUCKETS - 1);
+    }
+
+    /**
+     * Returns the largest latency that falls into a bucket.
+     */
+    static long upperBound(final int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        final int msb = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        final int sub = bucket % SUB_BUCKETS;
+        final long lower = (long) (SUB_BUCKETS + sub) << (msb - SUB_BITS);
+        return lower + (1L << (msb - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,24 @@
+package me.friedwingis.plugin.starforging.timings;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * The handlers measured by {@link Timings}, and what counts as a proc for each.
+ */
+@Getter
+@AllArgsConstructor
+public enum TimedHandler {
+    CROP_FARM("onCropFarm", "drops"),
+    INVENTORY_CLICK("onInventoryClick", "forge clicks"),
+    ENTITY_DAMAGE("onEntityDamage", "trait procs"),
+    ENTITY_DAMAGE_BY_PLAYER("onEntityDamageByPlayer", "trait procs"),
+    FORGE_CLICK("ForgeGUI.handleTopClick", "forges");
+
+    private final String displayName;
+    private final String procName;
+}
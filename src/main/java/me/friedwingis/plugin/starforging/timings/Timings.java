@@ -0,0 +1,135 @@
+package me.friedwingis.plugin.starforging.timings;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Built-in instrumentation for StarForging's event handlers. Each handler keeps an all-time
+ * histogram and a ring of short slots that together form a rolling window.
+ *
+ * Usage: {@code long start = timings.start(); ...; timings.record(handler, start, procced);}
+ */
+public class Timings {
+
+    private static final TimedHandler[] HANDLERS = TimedHandler.values();
+    // Number of slots the rolling window is split into
+    private static final int WINDOW_SLOTS = 6;
+
+    @Getter private final boolean enabled;
+    @Getter private final int windowSeconds;
+
+    private final LatencyHistogram[] total = new LatencyHistogram[HANDLERS.length];
+    private final LatencyHistogram[][] window = new LatencyHistogram[HANDLERS.length][WINDOW_SLOTS];
+    private volatile int currentSlot;
+
+    private ScheduledTask rotationTask;
+
+    /**
+     * @param enabled       Whether handlers are measured at all.
+     * @param windowSeconds Length of the rolling window.
+     */
+    public Timings(final boolean enabled, final int windowSeconds) {
+        this.enabled = enabled;
+        this.windowSeconds = Math.max(WINDOW_SLOTS, windowSeconds);
+
+        for (int i = 0; i < HANDLERS.length; i++) {
+            total[i] = new LatencyHistogram();
+            for (int slot = 0; slot < WINDOW_SLOTS; slot++)
+                window[i][slot] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Starts the task that advances the rolling window.
+     */
+    public void start(final Plugin plugin) {
+        if (!enabled || rotationTask != null)
+            return;
+
+        final long slotTicks = windowSeconds * 20L / WINDOW_SLOTS;
+        rotationTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduled -> rotate(), slotTicks, slotTicks);
+    }
+
+    public void shutdown() {
+        if (rotationTask != null) {
+            rotationTask.cancel();
+            rotationTask = null;
+        }
+    }
+
+    /**
+     * Returns the start time of a measurement, or 0 when timings are disabled.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a handler call that began at {@code start}.
+     *
+     * @param handler The handler that ran.
+     * @param start   The value returned by {@link #start()}.
+     * @param proc    Whether the call did something (dropped Stardust, procced a trait, ...).
+     */
+    public void record(final TimedHandler handler, final long start, final boolean proc) {
+        if (start == 0L)
+            return;
+
+        final long elapsed = System.nanoTime() - start;
+        total[handler.ordinal()].record(elapsed, proc);
+        window[handler.ordinal()][currentSlot].record(elapsed, proc);
+    }
+
+    /**
+     * Summarizes a handler since startup or the last reset.
+     */
+    public TimingsReport report(final TimedHandler handler) {
+        return summarize(handler, total[handler.ordinal()]);
+    }
+
+    /**
+     * Summarizes a handler over the rolling window.
+     */
+    public TimingsReport reportWindow(final TimedHandler handler) {
+        return summarize(handler, window[handler.ordinal()]);
+    }
+
+    /**
+     * Clears every counter.
+     */
+    public void reset() {
+        for (int i = 0; i < HANDLERS.length; i++) {
+            total[i].reset();
+            for (final LatencyHistogram slot : window[i])
+                slot.reset();
+        }
+    }
+
+    /**
+     * Moves the window forward one slot, dropping the oldest.
+     */
+    private void rotate() {
+        final int next = (currentSlot + 1) % WINDOW_SLOTS;
+        for (final LatencyHistogram[] slots : window)
+            slots[next].reset();
+        currentSlot = next;
+    }
+
+    private static TimingsReport summarize(final TimedHandler handler, final LatencyHistogram... histograms) {
+        final long[] counts = new long[LatencyHistogram.BUCKETS];
+        long procs = 0, max = 0;
+
+        for (final LatencyHistogram histogram : histograms) {
+            final long[] extra = histogram.addTo(counts);
+            procs += extra[0];
+            max = Math.max(max, extra[1]);
+        }
+        return new TimingsReport(handler, counts, procs, max);
+    }
+}
@@ -0,0 +1,47 @@
+package me.friedwingis.plugin.starforging.timings;
+
+import lombok.Getter;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * A point-in-time summary of one handler's timings.
+ */
+@Getter
+public final class TimingsReport {
+    private final TimedHandler handler;
+    private final long calls;
+    private final long procs;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    TimingsReport(final TimedHandler handler, final long[] counts, final long procs, final long maxNanos) {
+        long calls = 0;
+        for (final long count : counts)
+            calls += count;
+
+        this.handler = handler;
+        this.calls = calls;
+        this.procs = procs;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = percentile(counts, calls, 0.50, maxNanos);
+        this.p99Nanos = percentile(counts, calls, 0.99, maxNanos);
+    }
+
+    private static long percentile(final long[] counts, final long total, final double quantile, final long max) {
+        if (total == 0)
+            return 0L;
+
+        final long target = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target)
+                return Math.min(LatencyHistogram.upperBound(i), max);
+        }
+        return max;
+    }
+}
@@ -3,8 +3,12 @@ package me.friedwingis.plugin.starforging.utils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 
-import java.text.DecimalFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Copyright Fried - 2025
@@ -13,24 +17,119 @@ import java.text.DecimalFormat;
  *
  * Utility class for converting Strings w/ Minimessage color
  * codes to Minimessage Components and other useful String utils.
+ *
+ * Components are immutable, so parsed messages are cached and reused. The cache is bounded and
+ * evicts messages that haven't been used since the last sweep (second chance), so one-off strings
+ * age out instead of filling it for good. Messages with variables should be compiled once through
+ * {@link #template(String, String...)}.
  */
 public class Chat {
     private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+
+    // Upper bound on cached messages, so one-off dynamic strings can't grow the cache forever
+    private static final int MAX_CACHED = 2048;
+    // How many messages a full cache evicts at once, so a sweep isn't needed on every miss
+    private static final int EVICT_BATCH = MAX_CACHED / 8;
+    private static final Map<String, Cached> CACHE = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder(), MISSES = new LongAdder();
+
+    public static final String SEVERE = "<#E74C3C><b><!></b> ";
+    public static final String WARN = "<#F1C40F><b><!></b> ";
+    public static final String PRAISE = "<#2ECC71><b><!></b> ";
+
     public static final Component EMPTY_STRING = format("");
 
     public static Component format(String message) {
-        return MINI_MESSAGE.deserialize(message).decoration(TextDecoration.ITALIC, false);
+        final Cached cached = CACHE.get(message);
+        if (cached != null) {
+            HITS.increment();
+            if (!cached.referenced)
+                cached.referenced = true; // Only written when clear, so hot messages don't keep dirtying it
+            return cached.component;
+        }
+
+        MISSES.increment();
+        final Component parsed = parse(message, TagResolver.empty());
+        if (CACHE.size() >= MAX_CACHED)
+            evict();
+        CACHE.putIfAbsent(message, new Cached(parsed));
+        return parsed;
+    }
+
+    /**
+     * Frees room in a full cache. Messages used since the last sweep get a second chance and
+     * lose their mark; unmarked ones are removed, until a batch is free.
+     */
+    private static synchronized void evict() {
+        int evicted = 0;
+        while (CACHE.size() >= MAX_CACHED && evicted < EVICT_BATCH) {
+            final Iterator<Cached> iterator = CACHE.values().iterator();
+            while (iterator.hasNext() && evicted < EVICT_BATCH) {
+                final Cached entry = iterator.next();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
     }
 
     public static Component severe(String message) {
-        return format("<#E74C3C><b><!></b> " + message);
+        return format(SEVERE + message);
     }
 
     public static Component warn(String message) {
-        return format("<#F1C40F><b><!></b> " + message);
+        return format(WARN + message);
     }
 
     public static Component praise(String message) {
-        return format("<#2ECC71><b><!></b> " + message);
+        return format(PRAISE + message);
+    }
+
+    /**
+     * Compiles a message with named placeholders (e.g. {@code <amount>}) into a reusable template.
+     * The MiniMessage parse happens here, once; rendering only fills in the placeholders.
+     *
+     * @param message      The MiniMessage string containing the placeholders.
+     * @param placeholders The names of the placeholders, in the order values are passed to render.
+     * @return The compiled template.
+     */
+    public static MessageTemplate template(String message, String... placeholders) {
+        return new MessageTemplate(message, placeholders);
+    }
+
+    /**
+     * Parses a message without going through the cache.
+     */
+    static Component parse(String message, TagResolver resolver) {
+        return MINI_MESSAGE.deserialize(message, resolver).decoration(TextDecoration.ITALIC, false);
+    }
+
+    /**
+     * Returns how often {@link #format(String)} found its message in the cache. Templates aren't
+     * counted, they never go through the cache.
+     */
+    public static long getCacheHits() {
+        return HITS.sum();
+    }
+
+    public static long getCacheMisses() {
+        return MISSES.sum();
+    }
+
+    public static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    // A cached message, marked whenever it's used
+    private static final class Cached {
+        private final Component component;
+        private volatile boolean referenced = true;
+
+        private Cached(final Component component) {
+            this.component = component;
+        }
     }
 }
@@ -1,7 +1,7 @@
 package me.friedwingis.plugin.starforging.utils;
 
-import com.google.common.collect.Maps;
 import me.friedwingis.plugin.starforging.struct.ItemBuilder;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
@@ -9,7 +9,7 @@ import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
 
-import java.util.Map;
+import java.util.List;
 
 /**
  * Copyright Fried - 2025
@@ -21,40 +21,38 @@ import java.util.Map;
  **/
 public class Constants {
 
-    public static final Map<Material, Double> CROP_RARITY;
-    public static final NamespacedKey STARDUST_KEY;
-    public static final ItemStack STARDUST;
-
-    static {
-        CROP_RARITY = Maps.newHashMap();
-        CROP_RARITY.put(Material.CHORUS_FRUIT, 0.30);
-        CROP_RARITY.put(Material.WEEPING_VINES, 0.29);
-        CROP_RARITY.put(Material.COCOA_BEANS, 0.28);
-        CROP_RARITY.put(Material.NETHER_WART, 0.27);
-        CROP_RARITY.put(Material.PUMPKIN, 0.26);
-        CROP_RARITY.put(Material.TWISTING_VINES, 0.25);
-        CROP_RARITY.put(Material.BEETROOT, 0.24);
-        CROP_RARITY.put(Material.MELON, 0.23);
-        CROP_RARITY.put(Material.BAMBOO, 0.22);
-        CROP_RARITY.put(Material.SUGAR_CANE, 0.21);
-        CROP_RARITY.put(Material.TORCHFLOWER, 0.20);
-        CROP_RARITY.put(Material.CARROT, 0.19);
-        CROP_RARITY.put(Material.PITCHER_PLANT, 0.18);
-        CROP_RARITY.put(Material.POTATO, 0.17);
-        CROP_RARITY.put(Material.GLOW_BERRIES, 0.16);
-        CROP_RARITY.put(Material.SWEET_BERRIES, 0.15);
-        CROP_RARITY.put(Material.WHEAT, 0.14);
-
-        STARDUST_KEY = new NamespacedKey("starforging", "sf_istardust");
-
-        STARDUST = new ItemBuilder(Material.BONE_MEAL)
+    public static final NamespacedKey STARDUST_KEY = new NamespacedKey("starforging", "sf_istardust");
+
+    // The Stardust item for the current lore mode, rebuilt if the mode changes
+    private static volatile ItemStack stardust;
+    private static volatile ItemLore.Mode stardustMode;
+
+    /**
+     * Returns the Stardust item, with its lore stored as the current {@link ItemLore.Mode} says.
+     * Callers must copy it (e.g. with asQuantity) before handing it out.
+     */
+    public static ItemStack stardust() {
+        final ItemLore.Mode mode = ItemLore.getMode();
+        ItemStack item = stardust;
+        if (item == null || stardustMode != mode) {
+            item = createStardust();
+            stardust = item;
+            stardustMode = mode;
+        }
+        return item;
+    }
+
+    private static ItemStack createStardust() {
+        final List<Component> lore = ItemLore.build("starforging.stardust", List.of(
+                Chat.format("<gray>Essence of fallen stars, shimmering with cosmic energy."),
+                Chat.format("<gray>Used to imbue items with powerful Starbound traits."),
+                Chat.EMPTY_STRING,
+                Chat.format("<dark_gray>Can be refined in the <gradient:#7a00cc:#cc00ff>Celestial Forge</gradient>.")
+        ), 0);
+
+        return new ItemBuilder(Material.BONE_MEAL)
                 .setDisplayName("<gradient:#e0e0e0:#ffffff><b>StarDust")
-                .setLore(
-                        "<gray>Essence of fallen stars, shimmering with cosmic energy.",
-                        "<gray>Used to imbue items with powerful Starbound traits.",
-                        "",
-                        "<dark_gray>Can be refined in the <gradient:#7a00cc:#cc00ff>Celestial Forge</gradient>."
-                )
+                .setLoreC(lore.isEmpty() ? null : lore)
                 .addEnchantment(Enchantment.LURE, 1)
                 .applyItemFlags(ItemFlag.values())
                 .addPersistentData(STARDUST_KEY, PersistentDataType.STRING, "jungleplanetog")
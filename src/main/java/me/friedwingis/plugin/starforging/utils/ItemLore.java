@@ -0,0 +1,129 @@
+package me.friedwingis.plugin.starforging.utils;
+
+import lombok.Getter;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.translation.GlobalTranslator;
+import net.kyori.adventure.translation.Translator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * Decides how the lore of StarForging's items (trait armor and Stardust) is stored on the item.
+ * Lore is saved with every chunk, ender chest and player file holding the item and sent in every
+ * inventory update, so the shorter it is the less every copy of the item costs.
+ */
+public final class ItemLore {
+
+    /**
+     * How lore is stored on items. Items keep the lore they were created with, so changing
+     * the mode only affects items made afterwards.
+     */
+    public enum Mode {
+        // The full formatted text on every item
+        FULL,
+        // Only translation keys on the item, the server fills in the text for each player as it's sent
+        TRANSLATABLE,
+        // Only the first line(s) of each lore block, e.g. a trait's name without its perks
+        COMPACT
+    }
+
+    private static final Key TRANSLATOR_KEY = Key.key("starforging", "lore");
+    // Text for every lore key, registered in every mode so items made in TRANSLATABLE mode keep rendering after a switch
+    private static final Map<String, Component> TRANSLATIONS = new ConcurrentHashMap<>();
+    private static final LoreTranslator TRANSLATOR = new LoreTranslator();
+
+    @Getter private static volatile Mode mode = Mode.FULL;
+    private static boolean translatorAdded;
+
+    private ItemLore() {
+    }
+
+    /**
+     * Sets the lore mode and adds the translator that renders translatable lore. The translator is
+     * added whatever the mode, since items made while the mode was TRANSLATABLE keep their keys.
+     * Call before any item is created, i.e. first thing in onEnable.
+     */
+    public static synchronized void setMode(final Mode mode) {
+        ItemLore.mode = mode;
+        if (!translatorAdded) {
+            GlobalTranslator.translator().addSource(TRANSLATOR);
+            translatorAdded = true;
+        }
+    }
+
+    /**
+     * Removes the translator again, used on disable so a reload doesn't add a second one.
+     */
+    public static synchronized void shutdown() {
+        if (translatorAdded) {
+            GlobalTranslator.translator().removeSource(TRANSLATOR);
+            translatorAdded = false;
+        }
+    }
+
+    /**
+     * Turns a block of formatted lore lines into what is stored for the current mode, and registers
+     * the block's translation keys in every mode. Meant to be called once per block and cached, not per item.
+     *
+     * @param key          Unique prefix for the block's translation keys, e.g. starforging.trait.void_step.
+     * @param lines        The full lore lines.
+     * @param compactLines How many leading lines COMPACT mode keeps.
+     * @return The lines to store, immutable.
+     */
+    public static List<Component> build(final String key, final List<Component> lines, final int compactLines) {
+        final Component[] keyed = new Component[lines.size()];
+        for (int i = 0; i < keyed.length; i++) {
+            final Component line = lines.get(i);
+            // Blank separators are already as small as a key would be
+            if (line.equals(Chat.EMPTY_STRING)) {
+                keyed[i] = line;
+                continue;
+            }
+
+            final String lineKey = key + "." + i;
+            TRANSLATIONS.put(lineKey, line);
+            // Lore is italic unless told otherwise, and the rendered text can't undo that
+            keyed[i] = Component.translatable(lineKey).decoration(TextDecoration.ITALIC, false);
+        }
+
+        return switch (mode) {
+            case FULL -> List.copyOf(lines);
+            case COMPACT -> List.copyOf(lines.subList(0, Math.min(compactLines, lines.size())));
+            case TRANSLATABLE -> List.of(keyed);
+        };
+    }
+
+    /**
+     * Renders StarForging's lore keys into their full text, whatever the player's locale.
+     */
+    private static final class LoreTranslator implements Translator {
+
+        @Override
+        public @NotNull Key name() {
+            return TRANSLATOR_KEY;
+        }
+
+        @Override
+        public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
+            return null; // Lines are components with their own formatting, see below
+        }
+
+        @Override
+        public @Nullable Component translate(final @NotNull TranslatableComponent component, final @NotNull Locale locale) {
+            return TRANSLATIONS.get(component.key());
+        }
+    }
+}
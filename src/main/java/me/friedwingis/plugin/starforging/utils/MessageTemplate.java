@@ -0,0 +1,131 @@
+package me.friedwingis.plugin.starforging.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copyright Fried - 2025
+ * All code is private and not to be used by any
+ * other entity unless explicitly stated otherwise.
+ *
+ * A MiniMessage string parsed once, with its placeholders left as markers in the
+ * component tree. The tree is then split around the markers, also once, so rendering
+ * only rebuilds the components that hold a placeholder and drops the values in.
+ * Values pick up the style around their placeholder, but not gradients or transitions.
+ */
+public class MessageTemplate {
+
+    // Private use characters, so a marker can never collide with real message text
+    private static final char MARKER_START = '\uE000', MARKER_END = '\uE001';
+
+    private final Part root;
+
+    MessageTemplate(final String message, final String... placeholders) {
+        final TagResolver.Builder resolver = TagResolver.builder();
+
+        for (int i = 0; i < placeholders.length; i++)
+            resolver.resolver(Placeholder.component(placeholders[i], Component.text(MARKER_START + Integer.toString(i) + MARKER_END)));
+
+        this.root = split(Chat.parse(message, resolver.build()));
+    }
+
+    /**
+     * Renders the template, filling each placeholder with its value in declaration order.
+     * Values may be Components or any object, which is converted with {@link String#valueOf(Object)}.
+     *
+     * @param values The values for the placeholders.
+     * @return The rendered component.
+     */
+    public Component render(final Object... values) {
+        final Component[] components = new Component[values.length];
+        for (int i = 0; i < values.length; i++) {
+            components[i] = values[i] instanceof Component component
+                    ? component
+                    : Component.text(String.valueOf(values[i]));
+        }
+        return root.render(components);
+    }
+
+    /**
+     * Turns a parsed component into parts, keeping every subtree without a marker as a constant.
+     */
+    private static Part split(final Component component) {
+        final List<Component> children = component.children();
+        final Part[] parts = new Part[children.size()];
+        boolean dynamic = false;
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = split(children.get(i));
+            dynamic |= !(parts[i] instanceof Constant);
+        }
+
+        final Object[] content = component instanceof TextComponent text ? splitContent(text.content()) : null;
+        if (content == null && !dynamic)
+            return new Constant(component);
+
+        // A split text's pieces become its leading children, so they keep its style just like the values
+        final Component shell = content != null ? ((TextComponent) component).content("") : component;
+        return new Node(shell.children(List.of()), content != null ? content : new Object[0], parts);
+    }
+
+    /**
+     * Splits text into literal strings and placeholder indices, or returns null if it holds no marker.
+     */
+    private static Object[] splitContent(final String text) {
+        if (text.indexOf(MARKER_START) < 0)
+            return null;
+
+        final List<Object> pieces = new ArrayList<>();
+        int from = 0;
+        while (from < text.length()) {
+            final int start = text.indexOf(MARKER_START, from);
+            final int end = start < 0 ? -1 : text.indexOf(MARKER_END, start);
+            if (end < 0) {
+                pieces.add(text.substring(from));
+                break;
+            }
+
+            if (start > from)
+                pieces.add(text.substring(from, start));
+            pieces.add(Integer.parseInt(text.substring(start + 1, end)));
+            from = end + 1;
+        }
+        return pieces.toArray();
+    }
+
+    /**
+     * A piece of the compiled tree that can be rendered with the placeholder values.
+     */
+    private interface Part {
+        Component render(Component[] values);
+    }
+
+    // A subtree without any placeholder, reused as is
+    private record Constant(Component component) implements Part {
+        @Override
+        public Component render(final Component[] values) {
+            return component;
+        }
+    }
+
+    // A component holding a placeholder in its text (content) or somewhere below it (children)
+    private record Node(Component shell, Object[] content, Part[] children) implements Part {
+        @Override
+        public Component render(final Component[] values) {
+            final List<Component> rendered = new ArrayList<>(content.length + children.length);
+            for (final Object piece : content) {
+                if (piece instanceof Integer index)
+                    rendered.add(index < values.length ? values[index] : Component.text(MARKER_START + index.toString() + MARKER_END));
+                else
+                    rendered.add(Component.text((String) piece));
+            }
+            for (final Part child : children)
+                rendered.add(child.render(values));
+            return shell.children(rendered);
+        }
+    }
+}